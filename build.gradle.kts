@@ -34,11 +34,90 @@ dependencies {
 
 
 tasks.test {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// Benchmarks are JUnit classes tagged "benchmark": too slow for every build, run them with
+// ./gradlew benchmark
+tasks.register<Test>("benchmark") {
+    description = "Runs the benchmarks tagged 'benchmark'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxHeapSize = "2g"
+    testLogging {
+        showStandardStreams = true
+    }
+    outputs.upToDateWhen { false }
 }
 
 java {
     toolchain {
         languageVersion.set(JavaLanguageVersion.of(21))
     }
-}
\ No newline at end of file
+}
+
+// StructuredTaskScope, used by AnalysisRunner, is a preview API in Java 21. Only classes using it
+// are marked as needing preview features, so Main and the CDS tasks run without the flag.
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.add("--enable-preview")
+}
+
+tasks.withType<Test>().configureEach {
+    jvmArgs("--enable-preview")
+}
+
+// Startup: the CLI jobs are short-lived, so class loading is a large share of their run time.
+// cdsArchive runs Main's training workload and dumps the classes it loaded into an AppCDS
+// archive; startupBenchmark compares launches without CDS, with the JDK's default archive and
+// with the application archive. CDS only archives classes loaded from jars, hence the jar.
+val cdsArchiveFile = layout.buildDirectory.file("cds/app.jsa")
+val cdsLauncher = javaToolchains.launcherFor(java.toolchain)
+val cdsClasspath = files(tasks.jar.flatMap { it.archiveFile }) + configurations.runtimeClasspath.get()
+
+tasks.register<JavaExec>("cdsArchive") {
+    description = "Creates a CDS archive of the classes loaded by a training run of Main."
+    group = "build"
+    javaLauncher.set(cdsLauncher)
+    classpath = cdsClasspath
+    mainClass.set("com.example.Main")
+    args("train")
+    jvmArgs("-XX:ArchiveClassesAtExit=${cdsArchiveFile.get().asFile}")
+    standardOutput = java.io.OutputStream.nullOutputStream()
+    inputs.files(cdsClasspath)
+    outputs.file(cdsArchiveFile)
+    doFirst { cdsArchiveFile.get().asFile.parentFile.mkdirs() }
+}
+
+tasks.register("startupBenchmark") {
+    description = "Compares Main startup without CDS, with the default CDS archive and with the app archive."
+    group = "verification"
+    dependsOn("cdsArchive")
+    doLast {
+        val runs = (findProperty("startupRuns") as String?)?.toInt() ?: 10
+        val java = cdsLauncher.get().executablePath.asFile.absolutePath
+        val command = listOf("-cp", cdsClasspath.asPath, "com.example.Main", "train")
+        val variants = linkedMapOf(
+            "no CDS" to listOf("-Xshare:off"),
+            "default CDS" to emptyList(),
+            "app CDS" to listOf("-XX:SharedArchiveFile=${cdsArchiveFile.get().asFile}")
+        )
+        variants.forEach { (name, jvmArgs) ->
+            val millis = (0 until runs + 1).map {
+                val start = System.nanoTime()
+                val process = ProcessBuilder(listOf(java) + jvmArgs + command)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start()
+                check(process.waitFor() == 0) { "$name launch failed" }
+                (System.nanoTime() - start) / 1_000_000
+            }.drop(1).sorted() // first launch warms the OS file cache
+            println("%-12s median %5d ms  min %5d ms  (%d runs)".format(name, millis[millis.size / 2], millis.first(), runs))
+        }
+    }
+}
@@ -1,22 +1,183 @@
 package com.example;
 
-import lombok.NoArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-
-//TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
-        // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
-@Slf4j
-@NoArgsConstructor
-public class Main {
+import com.example.reactive.ReactiveStringProcessor;
+import com.example.sketch.HeavyHitters;
+import com.example.streams.BatchTextAnalyzer;
+import com.example.streams.BatchTextStats;
+import com.example.streams.CodePointFrequencies;
+import com.example.streams.employee.Employee;
+import com.example.streams.employee.EmployeeGenerator;
+import com.example.streams.employee.EmployeeLoader;
+import com.example.streams.employee.EmployeeStreams;
+import com.example.streams.employee.SalaryBands;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Command line entry point running the text and employee analyses against files.
+ *
+ * <p>Jobs are short-lived, so startup matters as much as the analysis itself: nothing is
+ * initialized statically, logging is not touched on the happy path, and classes are only
+ * loaded by the command that needs them. The {@code train} command runs every analysis on
+ * generated data so that a CDS archive dumped at its exit ({@code ./gradlew cdsArchive})
+ * covers the classes of both file commands; {@code ./gradlew startupBenchmark} compares
+ * launches with and without that archive.
+ */
+public final class Main {
+
+  static final String USAGE = """
+      usage: Main <command> [file]
+        text <file>        word, character and longest-word statistics of a UTF-8 text file
+        employees <file>   department, salary and skill statistics of an employee file:
+                           CSV, one 'name,department,salary,skill;skill;...' record per line,
+                           or NDJSON for .ndjson/.jsonl files
+        train              runs both analyses on generated data
+      """;
+
+  static final int TOP = 5;
+  static final int[] SALARY_THRESHOLDS = {40_000, 60_000, 80_000, 100_000};
+
+  private Main() {
+  }
+
   public static void main(String[] args) {
-    //TIP Press <shortcut actionId="ShowIntentionActions"/> with your caret at the highlighted text
-    // to see how IntelliJ IDEA suggests fixing it.
-    log.info("Hello and welcome!");
-
-    for (int i = 1; i <= 5; i++) {
-      //TIP Press <shortcut actionId="Debug"/> to start debugging your code. We have set one <icon src="AllIcons.Debugger.Db_set_breakpoint"/> breakpoint
-      // for you, but you can always add more by pressing <shortcut actionId="ToggleLineBreakpoint"/>.
-      log.info("i = " + i);
+    int status = run(args, System.out, System.err);
+    if (status != 0) {
+      System.exit(status);
+    }
+  }
+
+  /**
+   * Run a command, returning the process exit status: 0 on success, 1 on a failed
+   * analysis, 2 on a usage error
+   */
+  static int run(String[] args, PrintStream out, PrintStream err) {
+    if (args.length == 0) {
+      err.print(USAGE);
+      return 2;
+    }
+    try {
+      switch (args[0]) {
+        case "text" -> {
+          if (args.length != 2) {
+            err.print(USAGE);
+            return 2;
+          }
+          analyzeText(Files.readAllLines(Path.of(args[1]), StandardCharsets.UTF_8), out);
+        }
+        case "employees" -> {
+          if (args.length != 2) {
+            err.print(USAGE);
+            return 2;
+          }
+          Path file = Path.of(args[1]);
+          analyzeEmployees(EmployeeLoader.forFile(file).load(file), out);
+        }
+        case "train" -> train(out);
+        default -> {
+          err.print(USAGE);
+          return 2;
+        }
+      }
+      return 0;
+    } catch (IOException | RuntimeException e) {
+      err.println("error: " + e);
+      return 1;
+    }
+  }
+
+  static void analyzeText(List<String> lines, PrintStream out) {
+    BatchTextStats stats = new BatchTextAnalyzer().analyze(lines);
+    HeavyHitters topWords = new HeavyHitters(TOP);
+    lines.forEach(topWords::addWords);
+
+    ReactiveStringProcessor processor = new ReactiveStringProcessor();
+    Flux<String> words = Flux.fromIterable(lines)
+                             .flatMapIterable(line -> Arrays.asList(line.split("\\W+")))
+                             .filter(word -> !word.isEmpty())
+                             .map(String::toLowerCase);
+    Long distinctWords = processor.countDistinctWordsReactive(words).block();
+    List<String> longestWords = processor.findLongestWordsReactive(Flux.fromIterable(lines)
+                                                                       .map(line -> CharBuffer.wrap(line + '\n')))
+                                         .collectList()
+                                         .block();
+
+    out.println("lines: " + stats.size());
+    out.println("characters: " + stats.totalCharacters());
+    out.println("words: " + stats.totalWords());
+    out.println("distinct words: " + distinctWords);
+    out.println("vowels: " + stats.totalVowels());
+    out.println("consonants: " + stats.totalConsonants());
+    out.println("longest words: " + longestWords);
+    out.println("top words: " + topWords.topK());
+    out.println("top code points: " + topCodePoints(lines));
+  }
+
+  static void analyzeEmployees(List<Employee> employees, PrintStream out) {
+    EmployeeStreams employeeStreams = new EmployeeStreams();
+    SalaryBands bands = employeeStreams.bandBySalaryInParallel(employees, SALARY_THRESHOLDS);
+    int[] bandSizes = bands.bands().stream().mapToInt(List::size).toArray();
+
+    out.println("employees: " + employees.size());
+    out.println("by department: " + new TreeMap<>(employeeStreams.groupAndCountByDepartment(employees)));
+    out.println("average salary by department: "
+                + new TreeMap<>(employeeStreams.calculateAverageSalaryByDepartment(employees)));
+    out.println("top salaries: " + employeeStreams.findTopNSalaries(employees, TOP));
+    out.println("salary bands " + Arrays.toString(bands.thresholds()) + ": " + Arrays.toString(bandSizes));
+    out.println("distinct skills: " + employeeStreams.estimateUniqueSkillCount(employees));
+  }
+
+  /**
+   * Workload of the CDS training run: both analyses, on generated data that goes through a
+   * temporary file so the loading classes are exercised too
+   */
+  static void train(PrintStream out) throws IOException {
+    List<Employee> generated = EmployeeGenerator.withSeed(42).generate(10_000);
+    List<String> lines = new ArrayList<>();
+    StringBuilder csv = new StringBuilder();
+    for (Employee employee : generated) {
+      lines.add(employee.name() + " works in " + employee.department() + " with " + employee.skills());
+      csv.append(employee.name()).append(',').append(employee.department()).append(',')
+         .append(employee.salary()).append(',').append(String.join(";", employee.skills())).append('\n');
     }
+    Path file = Files.createTempFile("employees", ".csv");
+    try {
+      Files.writeString(file, csv);
+      analyzeText(lines, out);
+      analyzeEmployees(EmployeeLoader.forFile(file).load(file), out);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static String topCodePoints(List<String> lines) {
+    CodePointFrequencies frequencies = new CodePointFrequencies(true);
+    lines.forEach(frequencies::accept);
+    StringBuilder top = new StringBuilder("[");
+    frequencies.finish()
+               .entrySet()
+               .stream()
+               .filter(entry -> !Character.isWhitespace(entry.getKey()))
+               .sorted(Map.Entry.<Integer, Long>comparingByValue().reversed()
+                                .thenComparing(Map.Entry.comparingByKey()))
+               .limit(TOP)
+               .forEach(entry -> {
+                 if (top.length() > 1) {
+                   top.append(", ");
+                 }
+                 top.appendCodePoint(entry.getKey()).append('=').append(entry.getValue());
+               });
+    return top.append(']').toString();
   }
-}
\ No newline at end of file
+}
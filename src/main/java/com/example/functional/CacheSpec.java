@@ -0,0 +1,33 @@
+package com.example.functional;
+
+import java.time.Duration;
+
+/**
+ * How a {@link Memoizer} bounds its entries.
+ *
+ * @param maximumSize entries kept before the oldest is evicted, 0 for no limit
+ * @param ttl         how long an entry stays valid after it was computed, {@code null} for forever
+ */
+public record CacheSpec(long maximumSize, Duration ttl) {
+
+  public CacheSpec {
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("maximumSize must be >= 0");
+    }
+    if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+      throw new IllegalArgumentException("ttl must be > 0");
+    }
+  }
+
+  public static CacheSpec unbounded() {
+    return new CacheSpec(0, null);
+  }
+
+  public static CacheSpec maximumSize(long maximumSize) {
+    return new CacheSpec(maximumSize, null);
+  }
+
+  public CacheSpec withTtl(Duration ttl) {
+    return new CacheSpec(maximumSize, ttl);
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.functional;
+
+/**
+ * Point-in-time counters of a {@link Memoizer}.
+ * A caller that waits for another thread computing the same key counts as a hit.
+ */
+public record CacheStats(long hits, long misses, long evictions) {
+
+  public long requests() {
+    return hits + misses;
+  }
+
+  /**
+   * Fraction of requests served from the cache, 0 when there were none
+   */
+  public double hitRate() {
+    long requests = requests();
+    return requests == 0 ? 0 : (double) hits / requests;
+  }
+}
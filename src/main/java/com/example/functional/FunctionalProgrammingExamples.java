@@ -1,7 +1,9 @@
 package com.example.functional;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.*;
+import java.util.stream.IntStream;
 
 import static java.util.stream.Stream.generate;
 
@@ -41,6 +43,31 @@ public class FunctionalProgrammingExamples {
     return numbers.stream().filter(n ->lessThanThree.test(n) || greaterThanEight.test(n)).toList();
   }
 
+  // Primitive overloads: same predicates, no Integer boxing on the way in or out
+  public int[] chainPredicatesWithAnd(int[] numbers, IntPredicate isEven, IntPredicate greaterThanFive) {
+    return Arrays.stream(numbers).filter(isEven.and(greaterThanFive)).toArray();
+  }
+
+  public IntList chainPredicatesWithAnd(IntList numbers, IntPredicate isEven, IntPredicate greaterThanFive) {
+    return numbers.filter(isEven.and(greaterThanFive));
+  }
+
+  public IntStream chainPredicatesWithAnd(IntStream numbers, IntPredicate isEven, IntPredicate greaterThanFive) {
+    return numbers.filter(isEven.and(greaterThanFive));
+  }
+
+  public int[] chainPredicatesWithOr(int[] numbers, IntPredicate lessThanThree, IntPredicate greaterThanEight) {
+    return Arrays.stream(numbers).filter(lessThanThree.or(greaterThanEight)).toArray();
+  }
+
+  public IntList chainPredicatesWithOr(IntList numbers, IntPredicate lessThanThree, IntPredicate greaterThanEight) {
+    return numbers.filter(lessThanThree.or(greaterThanEight));
+  }
+
+  public IntStream chainPredicatesWithOr(IntStream numbers, IntPredicate lessThanThree, IntPredicate greaterThanEight) {
+    return numbers.filter(lessThanThree.or(greaterThanEight));
+  }
+
   public <T, R> R applyBiFunction(T a, T b, BiFunction<T, T, R> biFunction) {
     return biFunction.apply(a, b);
   }
@@ -57,7 +84,34 @@ public class FunctionalProgrammingExamples {
   }
 
   public Integer reduceWithBinaryOperator(List<Integer> numbers, int i, IntBinaryOperator operator) {
-    return numbers.stream().reduce(i, operator::applyAsInt);
+    return numbers.stream().mapToInt(Integer::intValue).reduce(i, operator);
+  }
+
+  public int reduceWithBinaryOperator(int[] numbers, int identity, IntBinaryOperator operator) {
+    int result = identity;
+    for (int number : numbers) {
+      result = operator.applyAsInt(result, number);
+    }
+    return result;
+  }
+
+  public int reduceWithBinaryOperator(IntList numbers, int identity, IntBinaryOperator operator) {
+    int result = identity;
+    for (int i = 0; i < numbers.size(); i++) {
+      result = operator.applyAsInt(result, numbers.get(i));
+    }
+    return result;
+  }
+
+  public int reduceWithBinaryOperator(IntStream numbers, int identity, IntBinaryOperator operator) {
+    return numbers.reduce(identity, operator);
+  }
+
+  // Splits the array across the common pool. Only correct when the operator is associative
+  // and identity really is its identity (0 for +, 1 for *, MIN_VALUE for max...): each
+  // chunk starts from identity and the partial results are combined in any grouping.
+  public int reduceInParallel(int[] numbers, int identity, IntBinaryOperator operator) {
+    return Arrays.stream(numbers).parallel().reduce(identity, operator);
   }
 
   public <T, U, V, R> R applyTriFunction(T a, U b, V c, TriFunction<T, U, V, R> function) {
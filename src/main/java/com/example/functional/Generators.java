@@ -0,0 +1,141 @@
+package com.example.functional;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel and demand-driven alternatives to {@code Stream.generate(supplier).limit(count)}.
+ *
+ * <p>The parallel methods fill a pre-sized array in fixed chunks on the common pool, so
+ * an expensive supplier uses every core and nothing is resized or merged. They call the
+ * supplier from several threads at once: it must be thread-safe, and the position of a
+ * value in the result says nothing about the order in which it was produced.
+ */
+public final class Generators {
+
+  public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+  private Generators() {
+  }
+
+  public static <T> List<T> generateInParallel(Supplier<T> supplier, int count) {
+    return generateInParallel(supplier, count, DEFAULT_CHUNK_SIZE);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> List<T> generateInParallel(Supplier<T> supplier, int count, int chunkSize) {
+    Object[] values = new Object[checkCount(count)];
+    forEachChunk(count, chunkSize, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        values[i] = supplier.get();
+      }
+    });
+    return Collections.unmodifiableList(Arrays.asList((T[]) values));
+  }
+
+  public static int[] generateInts(IntSupplier supplier, int count) {
+    int[] values = new int[checkCount(count)];
+    forEachChunk(count, DEFAULT_CHUNK_SIZE, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        values[i] = supplier.getAsInt();
+      }
+    });
+    return values;
+  }
+
+  public static long[] generateLongs(LongSupplier supplier, int count) {
+    long[] values = new long[checkCount(count)];
+    forEachChunk(count, DEFAULT_CHUNK_SIZE, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        values[i] = supplier.getAsLong();
+      }
+    });
+    return values;
+  }
+
+  /**
+   * Call the supplier only when the subscriber requests more, on the requesting thread.
+   * Nothing is generated ahead of demand, so a slow consumer never piles up values.
+   */
+  public static <T> Flux<T> generateFlux(Supplier<T> supplier, long count) {
+    if (count < 0) {
+      return Flux.error(new IllegalArgumentException("count must be >= 0"));
+    }
+    return Flux.generate(() -> 0L, (generated, sink) -> {
+      if (generated == count) {
+        sink.complete();
+      } else {
+        sink.next(supplier.get());
+      }
+      return generated + 1;
+    });
+  }
+
+  /**
+   * Generate chunks on the parallel scheduler, at most {@code concurrency} ahead of demand,
+   * and emit them in order. Suits suppliers too expensive for the subscriber's thread.
+   */
+  public static <T> Flux<T> generateFlux(Supplier<T> supplier, long count, int chunkSize, int concurrency) {
+    if (count < 0 || chunkSize <= 0 || concurrency <= 0) {
+      return Flux.error(new IllegalArgumentException("count must be >= 0, chunkSize and concurrency > 0"));
+    }
+    long chunks = (count + chunkSize - 1) / chunkSize;
+    return Flux.<Long>generate(() -> 0L, (chunk, sink) -> {
+                 if (chunk == chunks) {
+                   sink.complete();
+                 } else {
+                   sink.next(chunk);
+                 }
+                 return chunk + 1;
+               })
+               .flatMapSequential(chunk -> Mono.fromCallable(() -> {
+                 int size = (int) Math.min(chunkSize, count - chunk * chunkSize);
+                 return generateChunk(supplier, size);
+               }).subscribeOn(Schedulers.parallel()), concurrency, 1)
+               .flatMapIterable(values -> values);
+  }
+
+  private static <T> List<T> generateChunk(Supplier<T> supplier, int size) {
+    Object[] values = new Object[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = supplier.get();
+    }
+    @SuppressWarnings("unchecked")
+    List<T> chunk = Arrays.asList((T[]) values);
+    return chunk;
+  }
+
+  private static int checkCount(int count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("count must be >= 0");
+    }
+    return count;
+  }
+
+  private static void forEachChunk(int count, int chunkSize, ChunkFiller filler) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be > 0");
+    }
+    int chunks = (int) (((long) count + chunkSize - 1) / chunkSize);
+    IntStream.range(0, chunks)
+             .parallel()
+             .forEach(chunk -> {
+               long from = (long) chunk * chunkSize;
+               filler.fill((int) from, (int) Math.min(from + chunkSize, count));
+             });
+  }
+
+  @FunctionalInterface
+  private interface ChunkFiller {
+    void fill(int from, int to);
+  }
+}
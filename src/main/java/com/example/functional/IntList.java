@@ -0,0 +1,101 @@
+package com.example.functional;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Growable list of primitive ints: a {@code List<Integer>} without one boxed
+ * {@code Integer} per element.
+ */
+public final class IntList {
+
+  private int[] elements;
+  private int size;
+
+  public IntList() {
+    this(10);
+  }
+
+  public IntList(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("initialCapacity must be >= 0");
+    }
+    this.elements = new int[initialCapacity];
+  }
+
+  public static IntList of(int... values) {
+    IntList list = new IntList(values.length);
+    System.arraycopy(values, 0, list.elements, 0, values.length);
+    list.size = values.length;
+    return list;
+  }
+
+  public void add(int value) {
+    if (size == elements.length) {
+      elements = Arrays.copyOf(elements, Math.max(8, elements.length + (elements.length >> 1)));
+    }
+    elements[size++] = value;
+  }
+
+  public int get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+    }
+    return elements[index];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public IntList filter(IntPredicate predicate) {
+    IntList result = new IntList(size);
+    for (int i = 0; i < size; i++) {
+      if (predicate.test(elements[i])) {
+        result.elements[result.size++] = elements[i];
+      }
+    }
+    return result;
+  }
+
+  public void forEach(IntConsumer action) {
+    for (int i = 0; i < size; i++) {
+      action.accept(elements[i]);
+    }
+  }
+
+  public IntStream stream() {
+    return Arrays.stream(elements, 0, size);
+  }
+
+  public int[] toArray() {
+    return Arrays.copyOf(elements, size);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof IntList other)) return false;
+    return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 1;
+    for (int i = 0; i < size; i++) {
+      hash = 31 * hash + elements[i];
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+}
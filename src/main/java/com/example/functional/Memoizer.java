@@ -0,0 +1,267 @@
+package com.example.functional;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe cache of computed values, used to memoize pure functions.
+ *
+ * <p>Each key is computed once even when many threads ask for it at the same time:
+ * the first caller computes, the others wait for its result. The computation runs
+ * outside any lock, so a memoized function may call itself recursively on other keys;
+ * asking for the key being computed from within its own computation throws
+ * {@link IllegalStateException} instead of waiting forever. A failed computation is not
+ * cached. When the spec sets a maximum size the oldest entries
+ * are evicted first (FIFO); expired entries are dropped when next read.
+ */
+public class Memoizer<K, V> {
+
+  private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final Queue<Map.Entry<K, Entry<V>>> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicLong queued = new AtomicLong();
+  private final long maximumSize;
+  private final long ttlNanos;
+  private final LongSupplier ticker;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public Memoizer(CacheSpec spec) {
+    this(spec, System::nanoTime);
+  }
+
+  Memoizer(CacheSpec spec, LongSupplier ticker) {
+    this.maximumSize = spec.maximumSize();
+    this.ttlNanos = spec.ttl() == null ? 0 : spec.ttl().toNanos();
+    this.ticker = ticker;
+  }
+
+  public static <T, R> MemoizedFunction<T, R> memoize(Function<T, R> function, CacheSpec spec) {
+    return new MemoizedFunction<>(function, new Memoizer<>(spec));
+  }
+
+  public static <T, U, R> MemoizedBiFunction<T, U, R> memoize(BiFunction<T, U, R> function, CacheSpec spec) {
+    return new MemoizedBiFunction<>(function, new Memoizer<>(spec));
+  }
+
+  public static <T, U, V, R> MemoizedTriFunction<T, U, V, R> memoize(TriFunction<T, U, V, R> function, CacheSpec spec) {
+    return new MemoizedTriFunction<>(function, new Memoizer<>(spec));
+  }
+
+  /**
+   * The cached value for {@code key}, computing it with {@code compute} if absent or expired
+   */
+  public V get(K key, Function<? super K, ? extends V> compute) {
+    while (true) {
+      Entry<V> entry = entries.get(key);
+      if (entry != null) {
+        if (!isExpired(entry)) {
+          if (entry.computing == Thread.currentThread()) {
+            throw new IllegalStateException("Recursive computation of the same key: " + key);
+          }
+          hits.increment();
+          return await(entry);
+        }
+        entries.remove(key, entry);
+        continue;
+      }
+      Entry<V> created = new Entry<>(new CompletableFuture<>(), ticker.getAsLong());
+      if (entries.putIfAbsent(key, created) != null) {
+        continue;
+      }
+      misses.increment();
+      if (maximumSize > 0) {
+        insertionOrder.add(new AbstractMap.SimpleImmutableEntry<>(key, created));
+        queued.incrementAndGet();
+        evictIfNeeded();
+        pruneStale();
+      }
+      try {
+        V value = compute.apply(key);
+        created.computing = null;
+        created.value.complete(value);
+        return value;
+      } catch (RuntimeException | Error e) {
+        created.computing = null;
+        entries.remove(key, created);
+        created.value.completeExceptionally(e);
+        throw e;
+      }
+    }
+  }
+
+  public CacheStats stats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  public long size() {
+    return entries.size();
+  }
+
+  public void invalidateAll() {
+    entries.clear();
+    insertionOrder.clear();
+    queued.set(0);
+  }
+
+  /**
+   * Number of nodes in the eviction queue, live or stale; approximate while other threads prune
+   */
+  long queuedSize() {
+    return queued.get();
+  }
+
+  private boolean isExpired(Entry<V> entry) {
+    return ttlNanos > 0 && ticker.getAsLong() - entry.createdNanos >= ttlNanos;
+  }
+
+  private void evictIfNeeded() {
+    while (entries.size() > maximumSize) {
+      Map.Entry<K, Entry<V>> oldest = insertionOrder.poll();
+      if (oldest == null) {
+        return;
+      }
+      queued.decrementAndGet();
+      // the queue may still hold entries already removed by expiry or failure
+      if (entries.remove(oldest.getKey(), oldest.getValue())) {
+        evictions.increment();
+      }
+    }
+  }
+
+  /**
+   * Drop queue nodes whose entry was removed by expiry or failure: the stale heads, and every
+   * stale node once they outnumber the live ones, so the queue stays within twice the maximum
+   * size at an amortized O(1) per miss
+   */
+  private void pruneStale() {
+    Map.Entry<K, Entry<V>> head;
+    while ((head = insertionOrder.peek()) != null && isStale(head)) {
+      if (insertionOrder.remove(head)) {
+        queued.decrementAndGet();
+      }
+    }
+    if (queued.get() > 2 * maximumSize) {
+      insertionOrder.removeIf(node -> {
+        if (isStale(node)) {
+          queued.decrementAndGet();
+          return true;
+        }
+        return false;
+      });
+    }
+  }
+
+  private boolean isStale(Map.Entry<K, Entry<V>> node) {
+    return entries.get(node.getKey()) != node.getValue();
+  }
+
+  private static <V> V await(Entry<V> entry) {
+    try {
+      return entry.value.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  private static final class Entry<V> {
+    private final CompletableFuture<V> value;
+    private final long createdNanos;
+    // the thread computing the value, until it is done: only it can re-enter for the same key
+    private volatile Thread computing = Thread.currentThread();
+
+    private Entry(CompletableFuture<V> value, long createdNanos) {
+      this.value = value;
+      this.createdNanos = createdNanos;
+    }
+  }
+
+  /**
+   * A {@link Function} whose results are cached per argument
+   */
+  public static final class MemoizedFunction<T, R> implements Function<T, R> {
+    private final Function<T, R> function;
+    private final Memoizer<T, R> cache;
+
+    private MemoizedFunction(Function<T, R> function, Memoizer<T, R> cache) {
+      this.function = function;
+      this.cache = cache;
+    }
+
+    @Override
+    public R apply(T t) {
+      // ConcurrentHashMap has no null keys; a null argument is simply not cached
+      return t == null ? function.apply(null) : cache.get(t, function);
+    }
+
+    public CacheStats stats() {
+      return cache.stats();
+    }
+  }
+
+  /**
+   * A {@link BiFunction} whose results are cached per pair of arguments
+   */
+  public static final class MemoizedBiFunction<T, U, R> implements BiFunction<T, U, R> {
+    private final BiFunction<T, U, R> function;
+    private final Memoizer<Args2<T, U>, R> cache;
+
+    private MemoizedBiFunction(BiFunction<T, U, R> function, Memoizer<Args2<T, U>, R> cache) {
+      this.function = function;
+      this.cache = cache;
+    }
+
+    @Override
+    public R apply(T t, U u) {
+      return cache.get(new Args2<>(t, u), args -> function.apply(args.first(), args.second()));
+    }
+
+    public CacheStats stats() {
+      return cache.stats();
+    }
+  }
+
+  /**
+   * A {@link TriFunction} whose results are cached per triple of arguments
+   */
+  public static final class MemoizedTriFunction<T, U, V, R> implements TriFunction<T, U, V, R> {
+    private final TriFunction<T, U, V, R> function;
+    private final Memoizer<Args3<T, U, V>, R> cache;
+
+    private MemoizedTriFunction(TriFunction<T, U, V, R> function, Memoizer<Args3<T, U, V>, R> cache) {
+      this.function = function;
+      this.cache = cache;
+    }
+
+    @Override
+    public R apply(T t, U u, V v) {
+      return cache.get(new Args3<>(t, u, v), args -> function.apply(args.first(), args.second(), args.third()));
+    }
+
+    public CacheStats stats() {
+      return cache.stats();
+    }
+  }
+
+  private record Args2<T, U>(T first, U second) {
+  }
+
+  private record Args3<T, U, V>(T first, U second, V third) {
+  }
+}
@@ -0,0 +1,297 @@
+package com.example.functional;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable hash map with structural sharing: a hash array mapped trie (HAMT).
+ *
+ * <p>Each level of the trie consumes 5 bits of the key's hash; a node stores a 32-bit bitmap of
+ * the slots in use and a compact array of just those slots, each either a key/value pair or a
+ * child node. {@link #put} and {@link #remove} copy only the nodes on the path to the key,
+ * O(log32 n) of them, and share everything else with the previous version, which stays valid.
+ * Keys whose full hashes collide share a collision node.
+ *
+ * <p>Since a version never changes, it can be read from any number of threads without locking;
+ * publish new versions through a volatile field or an {@code AtomicReference}. Null keys and
+ * values are not supported.
+ */
+public final class PersistentHashMap<K, V> {
+
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+  private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+  private final Node root;
+  private final int size;
+
+  private PersistentHashMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <K, V> PersistentHashMap<K, V> empty() {
+    return (PersistentHashMap<K, V>) EMPTY;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    return root == null ? null : (V) root.get(key, hash(key), 0);
+  }
+
+  public V getOrDefault(Object key, V defaultValue) {
+    V value = get(key);
+    return value != null ? value : defaultValue;
+  }
+
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  /**
+   * This map with the key mapped to the value; {@code this} if it already was
+   */
+  public PersistentHashMap<K, V> put(K key, V value) {
+    Objects.requireNonNull(key, "key");
+    Objects.requireNonNull(value, "value");
+    boolean[] added = new boolean[1];
+    Node newRoot = (root == null ? BitmapNode.EMPTY : root).put(key, value, hash(key), 0, added);
+    return newRoot == root ? this : new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+  }
+
+  /**
+   * This map without the key; {@code this} if it was not there
+   */
+  public PersistentHashMap<K, V> remove(Object key) {
+    if (root == null || root.get(key, hash(key), 0) == null) {
+      return this;
+    }
+    Node newRoot = root.remove(key, hash(key), 0);
+    return newRoot == null ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    if (root != null) {
+      root.forEach((BiConsumer<Object, Object>) action);
+    }
+  }
+
+  /**
+   * Mutable copy, for callers that need a {@link Map}
+   */
+  public Map<K, V> toMap() {
+    Map<K, V> map = new HashMap<>(Math.max(16, size * 2));
+    forEach(map::put);
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    return toMap().toString();
+  }
+
+  private static int hash(Object key) {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  private abstract static class Node {
+    abstract Object get(Object key, int hash, int shift);
+
+    abstract Node put(Object key, Object value, int hash, int shift, boolean[] added);
+
+    // null when the node becomes empty
+    abstract Node remove(Object key, int hash, int shift);
+
+    abstract void forEach(BiConsumer<Object, Object> action);
+  }
+
+  /**
+   * Slots in use are packed in {@code array} as pairs: key and value, or null and child node
+   */
+  private static final class BitmapNode extends Node {
+    private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    private final int bitmap;
+    private final Object[] array;
+
+    private BitmapNode(int bitmap, Object[] array) {
+      this.bitmap = bitmap;
+      this.array = array;
+    }
+
+    private int index(int bit) {
+      return 2 * Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @Override
+    Object get(Object key, int hash, int shift) {
+      int bit = 1 << ((hash >>> shift) & MASK);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      int index = index(bit);
+      Object slotKey = array[index];
+      if (slotKey == null) {
+        return ((Node) array[index + 1]).get(key, hash, shift + BITS);
+      }
+      return key.equals(slotKey) ? array[index + 1] : null;
+    }
+
+    @Override
+    Node put(Object key, Object value, int hash, int shift, boolean[] added) {
+      int bit = 1 << ((hash >>> shift) & MASK);
+      int index = index(bit);
+      if ((bitmap & bit) == 0) {
+        added[0] = true;
+        Object[] copy = new Object[array.length + 2];
+        System.arraycopy(array, 0, copy, 0, index);
+        copy[index] = key;
+        copy[index + 1] = value;
+        System.arraycopy(array, index, copy, index + 2, array.length - index);
+        return new BitmapNode(bitmap | bit, copy);
+      }
+      Object slotKey = array[index];
+      Object slotValue = array[index + 1];
+      if (slotKey == null) {
+        Node child = ((Node) slotValue).put(key, value, hash, shift + BITS, added);
+        return child == slotValue ? this : with(index, null, child);
+      }
+      if (key.equals(slotKey)) {
+        return slotValue.equals(value) ? this : with(index, slotKey, value);
+      }
+      added[0] = true;
+      return with(index, null, pair(slotKey, slotValue, key, value, hash, shift + BITS));
+    }
+
+    @Override
+    Node remove(Object key, int hash, int shift) {
+      int bit = 1 << ((hash >>> shift) & MASK);
+      int index = index(bit);
+      Object slotKey = array[index];
+      if (slotKey == null) {
+        Node child = ((Node) array[index + 1]).remove(key, hash, shift + BITS);
+        if (child != null) {
+          return with(index, null, child);
+        }
+      }
+      if (bitmap == bit) {
+        return null;
+      }
+      Object[] copy = new Object[array.length - 2];
+      System.arraycopy(array, 0, copy, 0, index);
+      System.arraycopy(array, index + 2, copy, index, array.length - index - 2);
+      return new BitmapNode(bitmap & ~bit, copy);
+    }
+
+    @Override
+    void forEach(BiConsumer<Object, Object> action) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (array[i] == null) {
+          ((Node) array[i + 1]).forEach(action);
+        } else {
+          action.accept(array[i], array[i + 1]);
+        }
+      }
+    }
+
+    private BitmapNode with(int index, Object key, Object value) {
+      Object[] copy = array.clone();
+      copy[index] = key;
+      copy[index + 1] = value;
+      return new BitmapNode(bitmap, copy);
+    }
+
+    private static Node pair(Object key1, Object value1, Object key2, Object value2, int hash2, int shift) {
+      int hash1 = hash(key1);
+      if (hash1 == hash2) {
+        return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+      }
+      boolean[] ignored = new boolean[1];
+      return EMPTY.put(key1, value1, hash1, shift, ignored).put(key2, value2, hash2, shift, ignored);
+    }
+  }
+
+  /**
+   * Keys with the same full hash, as key/value pairs
+   */
+  private static final class CollisionNode extends Node {
+    private final int hash;
+    private final Object[] array;
+
+    private CollisionNode(int hash, Object[] array) {
+      this.hash = hash;
+      this.array = array;
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (key.equals(array[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    Object get(Object key, int hash, int shift) {
+      int index = hash == this.hash ? indexOf(key) : -1;
+      return index < 0 ? null : array[index + 1];
+    }
+
+    @Override
+    Node put(Object key, Object value, int hash, int shift, boolean[] added) {
+      if (hash != this.hash) {
+        // split: this node becomes the child of a bitmap node that also holds the new key
+        int bit = 1 << ((this.hash >>> shift) & MASK);
+        return new BitmapNode(bit, new Object[]{null, this}).put(key, value, hash, shift, added);
+      }
+      int index = indexOf(key);
+      if (index >= 0) {
+        if (array[index + 1].equals(value)) {
+          return this;
+        }
+        Object[] copy = array.clone();
+        copy[index + 1] = value;
+        return new CollisionNode(hash, copy);
+      }
+      added[0] = true;
+      Object[] copy = Arrays.copyOf(array, array.length + 2);
+      copy[array.length] = key;
+      copy[array.length + 1] = value;
+      return new CollisionNode(hash, copy);
+    }
+
+    @Override
+    Node remove(Object key, int hash, int shift) {
+      int index = indexOf(key);
+      if (array.length == 2) {
+        return null;
+      }
+      Object[] copy = new Object[array.length - 2];
+      System.arraycopy(array, 0, copy, 0, index);
+      System.arraycopy(array, index + 2, copy, index, array.length - index - 2);
+      return new CollisionNode(hash, copy);
+    }
+
+    @Override
+    void forEach(BiConsumer<Object, Object> action) {
+      for (int i = 0; i < array.length; i += 2) {
+        action.accept(array[i], array[i + 1]);
+      }
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.example.functional;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable sorted multiset of ints with structural sharing: a treap whose nodes carry a count.
+ *
+ * <p>{@link #add} and {@link #remove} copy the O(log n) nodes on the path to the value and
+ * share the rest with the previous version. Node priorities are a hash of the value rather
+ * than random numbers, so equal contents always give the same shape; with a good mix the tree
+ * is balanced like a random treap. Safe to read from any thread, like
+ * {@link PersistentHashMap}.
+ */
+public final class PersistentIntMultiset {
+
+  private static final PersistentIntMultiset EMPTY = new PersistentIntMultiset(null, 0);
+
+  private final Node root;
+  private final int distinct;
+
+  private PersistentIntMultiset(Node root, int distinct) {
+    this.root = root;
+    this.distinct = distinct;
+  }
+
+  public static PersistentIntMultiset empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Number of distinct values
+   */
+  public int distinct() {
+    return distinct;
+  }
+
+  public int count(int value) {
+    Node node = root;
+    while (node != null && node.value != value) {
+      node = value < node.value ? node.left : node.right;
+    }
+    return node == null ? 0 : node.count;
+  }
+
+  public PersistentIntMultiset add(int value) {
+    boolean isNew = count(value) == 0;
+    return new PersistentIntMultiset(insert(root, value), isNew ? distinct + 1 : distinct);
+  }
+
+  /**
+   * One occurrence less of the value; {@code this} if it was not there
+   */
+  public PersistentIntMultiset remove(int value) {
+    int count = count(value);
+    if (count == 0) {
+      return this;
+    }
+    return new PersistentIntMultiset(delete(root, value), count == 1 ? distinct - 1 : distinct);
+  }
+
+  /**
+   * Up to {@code n} distinct values, largest first
+   */
+  public int[] largest(int n) {
+    IntList values = new IntList(Math.min(Math.max(n, 0), distinct));
+    descending(root, values, n);
+    return values.toArray();
+  }
+
+  /**
+   * Values in ascending order, with their counts
+   */
+  public void forEach(BiConsumer<Integer, Integer> action) {
+    ascending(root, action);
+  }
+
+  private static void descending(Node node, IntList values, int n) {
+    if (node == null || values.size() >= n) {
+      return;
+    }
+    descending(node.right, values, n);
+    if (values.size() < n) {
+      values.add(node.value);
+      descending(node.left, values, n);
+    }
+  }
+
+  private static void ascending(Node node, BiConsumer<Integer, Integer> action) {
+    if (node != null) {
+      ascending(node.left, action);
+      action.accept(node.value, node.count);
+      ascending(node.right, action);
+    }
+  }
+
+  private static Node insert(Node node, int value) {
+    if (node == null) {
+      return new Node(value, 1, null, null);
+    }
+    if (value == node.value) {
+      return new Node(value, node.count + 1, node.left, node.right);
+    }
+    if (value < node.value) {
+      Node left = insert(node.left, value);
+      return left.priority > node.priority
+             ? new Node(left.value, left.count, left.left, new Node(node.value, node.count, left.right, node.right))
+             : new Node(node.value, node.count, left, node.right);
+    }
+    Node right = insert(node.right, value);
+    return right.priority > node.priority
+           ? new Node(right.value, right.count, new Node(node.value, node.count, node.left, right.left), right.right)
+           : new Node(node.value, node.count, node.left, right);
+  }
+
+  private static Node delete(Node node, int value) {
+    if (value < node.value) {
+      return new Node(node.value, node.count, delete(node.left, value), node.right);
+    }
+    if (value > node.value) {
+      return new Node(node.value, node.count, node.left, delete(node.right, value));
+    }
+    return node.count > 1 ? new Node(value, node.count - 1, node.left, node.right) : join(node.left, node.right);
+  }
+
+  // every value of left is smaller than every value of right
+  private static Node join(Node left, Node right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    return left.priority > right.priority
+           ? new Node(left.value, left.count, left.left, join(left.right, right))
+           : new Node(right.value, right.count, join(left, right.left), right.right);
+  }
+
+  private static final class Node {
+    private final int value;
+    private final int count;
+    private final int priority;
+    private final Node left;
+    private final Node right;
+
+    private Node(int value, int count, Node left, Node right) {
+      this.value = value;
+      this.count = count;
+      this.priority = priority(value);
+      this.left = left;
+      this.right = right;
+    }
+
+    // murmur3 fmix32
+    private static int priority(int value) {
+      int h = value;
+      h ^= h >>> 16;
+      h *= 0x85EBCA6B;
+      h ^= h >>> 13;
+      h *= 0xC2B2AE35;
+      h ^= h >>> 16;
+      return h;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.example.reactive;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff: {@code base * 2^attempt}, capped at {@code max}, then spread by
+ * up to {@code jitter * delay} in either direction so that many clients backing off
+ * at once do not wake up in lock-step.
+ *
+ * @param base   delay before the first retry/emission (attempt 0)
+ * @param max    upper bound for any delay, jitter included
+ * @param jitter fraction of the delay used as random spread, between 0 and 1
+ */
+public record Backoff(Duration base, Duration max, double jitter) {
+
+  // 2^30 keeps the multiplication far from overflowing a Duration
+  private static final int MAX_SHIFT = 30;
+
+  public Backoff {
+    if (base == null || base.isNegative()) {
+      throw new IllegalArgumentException("base must be >= 0");
+    }
+    if (max == null || max.compareTo(base) < 0) {
+      throw new IllegalArgumentException("max must be >= base");
+    }
+    if (jitter < 0 || jitter > 1) {
+      throw new IllegalArgumentException("jitter must be between 0 and 1");
+    }
+  }
+
+  /**
+   * Pure exponential backoff, no cap other than the shift limit, no jitter
+   */
+  public static Backoff exponential(Duration base) {
+    return new Backoff(base, base.multipliedBy(1L << MAX_SHIFT), 0);
+  }
+
+  public Backoff withMax(Duration max) {
+    return new Backoff(base, max, jitter);
+  }
+
+  public Backoff withJitter(double jitter) {
+    return new Backoff(base, max, jitter);
+  }
+
+  public Duration delayFor(long attempt) {
+    int shift = (int) Math.min(Math.max(attempt, 0), MAX_SHIFT);
+    Duration delay = base.multipliedBy(1L << shift);
+    if (delay.compareTo(max) > 0) {
+      delay = max;
+    }
+    if (jitter == 0) {
+      return delay;
+    }
+    long millis = delay.toMillis();
+    long spread = (long) (millis * jitter);
+    long jittered = millis + ThreadLocalRandom.current().nextLong(-spread, spread + 1);
+    return Duration.ofMillis(Math.max(0, Math.min(jittered, max.toMillis())));
+  }
+}
@@ -0,0 +1,104 @@
+package com.example.reactive;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Minimal circuit breaker.
+ *
+ * <p>After {@code failureThreshold} consecutive failures the breaker opens and every call
+ * fails fast with {@link OpenException} without reaching the upstream. Once
+ * {@code openDuration} has passed it lets a single trial call through (half-open):
+ * success closes it again, failure re-opens it for another {@code openDuration}.
+ */
+public class CircuitBreaker {
+
+  public enum State { CLOSED, OPEN, HALF_OPEN }
+
+  private final int failureThreshold;
+  private final long openNanos;
+  private final LongSupplier clock;
+  private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private final AtomicLong openedAt = new AtomicLong();
+
+  public CircuitBreaker(int failureThreshold, Duration openDuration) {
+    this(failureThreshold, openDuration, System::nanoTime);
+  }
+
+  CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier clock) {
+    if (failureThreshold <= 0) {
+      throw new IllegalArgumentException("failureThreshold must be > 0");
+    }
+    this.failureThreshold = failureThreshold;
+    this.openNanos = openDuration.toNanos();
+    this.clock = clock;
+  }
+
+  public State state() {
+    return state.get();
+  }
+
+  /**
+   * Whether a call may go through now; in half-open state only one caller wins
+   */
+  public boolean tryAcquirePermission() {
+    return switch (state.get()) {
+      case CLOSED -> true;
+      case HALF_OPEN -> false;
+      case OPEN -> clock.getAsLong() - openedAt.get() >= openNanos
+                   && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    };
+  }
+
+  public void onSuccess() {
+    consecutiveFailures.set(0);
+    state.set(State.CLOSED);
+  }
+
+  public void onError() {
+    if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+      open();
+    }
+  }
+
+  /**
+   * Guard a {@code Mono}: fail fast while open, record the outcome otherwise.
+   * Each subscription (and so each retry) asks for permission again.
+   */
+  public <T> Mono<T> protect(Mono<T> source) {
+    return Mono.defer(() -> {
+      if (!tryAcquirePermission()) {
+        return Mono.error(new OpenException());
+      }
+      return source.doOnSuccess(value -> onSuccess())
+                   .doOnError(e -> onError())
+                   .doOnCancel(this::releaseTrial);
+    });
+  }
+
+  private void open() {
+    openedAt.set(clock.getAsLong());
+    consecutiveFailures.set(0);
+    state.set(State.OPEN);
+  }
+
+  // a cancelled trial call proved nothing: go back to open so the next caller can try
+  private void releaseTrial() {
+    state.compareAndSet(State.HALF_OPEN, State.OPEN);
+  }
+
+  /**
+   * Signals a call rejected because the breaker is open
+   */
+  public static class OpenException extends RuntimeException {
+    public OpenException() {
+      super("Circuit breaker is open");
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.example.reactive;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed wheel timer (Varghese and Lauck): a ring of buckets swept by one thread,
+ * one bucket per tick. Adding or cancelling a timeout is O(1) regardless of how many
+ * are pending, at the price of firing up to one tick late.
+ *
+ * <p>Expired tasks run on the timer thread, so they must only hand work off
+ * (e.g. to a scheduler) and return quickly.
+ */
+public class HashedWheelTimer implements AutoCloseable {
+
+  private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+  private final long tickNanos;
+  private final int mask;
+  private final List<Timeout>[] wheel;
+  // timeouts are handed to the timer thread through this queue, buckets are thread-confined
+  private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+  private final AtomicLong pending = new AtomicLong();
+  private final AtomicLong expired = new AtomicLong();
+  private final long startNanos;
+  private final Thread worker;
+  private volatile boolean running = true;
+
+  public HashedWheelTimer() {
+    this(Duration.ofMillis(10), 512);
+  }
+
+  @SuppressWarnings("unchecked")
+  public HashedWheelTimer(Duration tick, int wheelSize) {
+    if (tick.isNegative() || tick.isZero()) {
+      throw new IllegalArgumentException("tick must be > 0");
+    }
+    if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+      throw new IllegalArgumentException("wheelSize must be between 1 and 2^30");
+    }
+    int size = Integer.highestOneBit(wheelSize - 1) << 1;
+    size = Math.max(size, 1);
+    this.tickNanos = tick.toNanos();
+    this.mask = size - 1;
+    this.wheel = new List[size];
+    for (int i = 0; i < size; i++) {
+      wheel[i] = new ArrayList<>();
+    }
+    this.startNanos = System.nanoTime();
+    this.worker = new Thread(this::run, "hashed-wheel-timer-" + THREAD_IDS.incrementAndGet());
+    this.worker.setDaemon(true);
+    this.worker.start();
+  }
+
+  /**
+   * Run {@code task} on the timer thread once {@code delay} has elapsed
+   */
+  public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+    if (!running) {
+      throw new IllegalStateException("Timer is closed");
+    }
+    long deadline = System.nanoTime() - startNanos + Math.max(unit.toNanos(delay), 0);
+    Timeout timeout = new Timeout(task, deadline);
+    pending.incrementAndGet();
+    incoming.add(timeout);
+    return timeout;
+  }
+
+  /**
+   * Timeouts scheduled but neither fired nor cancelled yet
+   */
+  public long pendingTimeouts() {
+    return pending.get();
+  }
+
+  public long expiredTimeouts() {
+    return expired.get();
+  }
+
+  public Duration tickDuration() {
+    return Duration.ofNanos(tickNanos);
+  }
+
+  public int wheelSize() {
+    return wheel.length;
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(worker);
+  }
+
+  private void run() {
+    long tick = 0;
+    while (running) {
+      long deadline = (tick + 1) * tickNanos;
+      long sleep;
+      while (running && (sleep = deadline - (System.nanoTime() - startNanos)) > 0) {
+        LockSupport.parkNanos(this, sleep);
+      }
+      transferIncoming(tick);
+      expire(wheel[(int) (tick & mask)]);
+      tick++;
+    }
+  }
+
+  private void transferIncoming(long tick) {
+    Timeout timeout;
+    while ((timeout = incoming.poll()) != null) {
+      if (timeout.cancelled) {
+        continue;
+      }
+      long dueTick = Math.max(timeout.deadline / tickNanos, tick);
+      timeout.remainingRounds = (dueTick - tick) / wheel.length;
+      wheel[(int) (dueTick & mask)].add(timeout);
+    }
+  }
+
+  private void expire(List<Timeout> bucket) {
+    int kept = 0;
+    for (Timeout timeout : bucket) {
+      if (timeout.cancelled) {
+        continue;
+      }
+      if (timeout.remainingRounds > 0) {
+        timeout.remainingRounds--;
+        bucket.set(kept++, timeout);
+        continue;
+      }
+      if (timeout.fire()) {
+        pending.decrementAndGet();
+        expired.incrementAndGet();
+        runSafely(timeout.task);
+      }
+    }
+    bucket.subList(kept, bucket.size()).clear();
+  }
+
+  // a failing task must not kill the timer thread and every timeout pending on it
+  private void runSafely(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException e) {
+      Thread current = Thread.currentThread();
+      current.getUncaughtExceptionHandler().uncaughtException(current, e);
+    }
+  }
+
+  /**
+   * Handle to a scheduled task
+   */
+  public final class Timeout {
+    private final Runnable task;
+    private final long deadline;
+    private long remainingRounds;
+    private volatile boolean cancelled;
+    private final AtomicInteger state = new AtomicInteger();
+
+    private Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    /**
+     * Prevent the task from running; returns false if it has already fired
+     */
+    public boolean cancel() {
+      if (!state.compareAndSet(0, 1)) {
+        return false;
+      }
+      cancelled = true;
+      pending.decrementAndGet();
+      return true;
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    private boolean fire() {
+      return state.compareAndSet(0, 2);
+    }
+  }
+}
@@ -1,12 +1,33 @@
 package com.example.reactive;
 
+import com.example.sketch.CardinalityEstimator;
+import com.example.sketch.HeavyHitters;
+import com.example.sketch.HyperLogLog;
+import com.example.streams.BatchTextAnalyzer;
+import com.example.streams.BatchTextStats;
+import com.example.streams.CharClass;
+import com.example.streams.CharClassGrouper;
+import com.example.streams.CharClassGroups;
+import com.example.streams.CharClassTable;
+import com.example.streams.CharClassifier;
+import com.example.streams.CodePointFrequencies;
+import com.example.streams.LongestWords;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.util.Map.*;
 import static java.util.Map.Entry.comparingByValue;
@@ -71,11 +92,9 @@ public class ReactiveStringProcessor {
    * Count vowels reactively
    */
   public Mono<Long> countVowelsReactive(String input) {
-    // Implementation here
+    CharClassTable table = CharClassTable.current();
     return Mono.just(input.chars()
-                          .mapToObj(c -> (char) c)
-                          .map(Character::toLowerCase)
-                          .filter(c -> "aeiou".indexOf(c) >= 0)
+                          .filter(c -> table.isVowel((char) c))
                           .count()
     );
   }
@@ -103,6 +122,15 @@ public class ReactiveStringProcessor {
                .delayElements(delay);
   }
 
+  /**
+   * Combine multiple strings with delay between emissions, timed on the given scheduler.
+   * Pass a {@link WheelScheduler} when many flows are delayed concurrently.
+   */
+  public Flux<String> emitWithDelay(List<String> words, Duration delay, Scheduler timer){
+    return Flux.fromIterable(words)
+               .delayElements(delay, timer);
+  }
+
   /**
    * Get character frequency map reactively
    */
@@ -112,6 +140,18 @@ public class ReactiveStringProcessor {
                                         map.merge(character, 1L, Long::sum));
   }
 
+  /**
+   * Get code point frequency map, case folded, of a text arriving in chunks.
+   * Surrogate pairs may span chunk boundaries.
+   */
+  public Mono<Map<Integer, Long>> getCodePointFrequenciesReactive(Flux<CharBuffer> chunks) {
+    if (chunks == null) {
+      return Mono.just(Map.of());
+    }
+    return chunks.reduceWith(() -> new CodePointFrequencies(true), CodePointFrequencies::accept)
+                 .map(CodePointFrequencies::finish);
+  }
+
   /**
    * Check if the string is palindrome reactively
    */
@@ -140,6 +180,64 @@ public class ReactiveStringProcessor {
                .reduce(0L, Long::sum);
   }
 
+  /**
+   * Merge any number of text streams and count total characters on parallel rails.
+   * Each rail sums into its own primitive accumulator; the rails are only combined
+   * once every source has completed.
+   */
+  public Mono<Long> countTotalCharacters(List<Flux<String>> streams, int rails){
+    if (rails <= 0) {
+      return Mono.error(new IllegalArgumentException("rails must be > 0"));
+    }
+    if (streams == null || streams.isEmpty()) {
+      return Mono.just(0L);
+    }
+    return Flux.merge(streams)
+               .parallel(rails)
+               .runOn(Schedulers.parallel())
+               .reduce(() -> new long[1], (total, s) -> {
+                 total[0] += s.length();
+                 return total;
+               })
+               .sequential()
+               .reduce(0L, (sum, total) -> sum + total[0])
+               .defaultIfEmpty(0L);
+  }
+
+  /**
+   * Running character totals over any number of text streams: emits the total so far
+   * every {@code interval}, then the final total when all sources complete.
+   *
+   * <p>A subscriber that requests slowly gets the latest total, not a backlog of stale ones,
+   * and cancelling stops the count: the sources are cancelled too.
+   */
+  public Flux<Long> countTotalCharactersSnapshots(List<Flux<String>> streams, int rails, Duration interval){
+    if (rails <= 0) {
+      return Flux.error(new IllegalArgumentException("rails must be > 0"));
+    }
+    if (streams == null || streams.isEmpty()) {
+      return Flux.just(0L);
+    }
+    return Flux.defer(() -> {
+      LongAdder total = new LongAdder();
+      Sinks.One<Long> done = Sinks.one();
+      Mono<Long> counting = Flux.merge(streams)
+                                .parallel(rails)
+                                .runOn(Schedulers.parallel())
+                                .doOnNext(s -> total.add(s.length()))
+                                .sequential()
+                                .then(Mono.fromCallable(total::sum));
+      // the count runs once for both the ticks and the final total, and ends with the subscription
+      return Flux.using(() -> counting.subscribe(done::tryEmitValue, done::tryEmitError),
+                        subscription -> Flux.interval(interval)
+                                            .onBackpressureLatest()
+                                            .map(tick -> total.sum())
+                                            .takeUntilOther(done.asMono())
+                                            .concatWith(done.asMono()),
+                        Disposable::dispose);
+    });
+  }
+
   /**
    * Finds the longest word from a reactive stream.
    *
@@ -158,29 +256,169 @@ public class ReactiveStringProcessor {
     return words.reduce((w1, w2) -> w1.length() >= w2.length() ? w1 : w2);
   }
 
+  /**
+   * Emit the k most common words of each tumbling window over a live text stream
+   */
+  public Flux<List<Map.Entry<String, Long>>> findTopWordsInWindows(Flux<String> lines, Duration windowSize, int k) {
+    return findTopWordsInWindows(lines, windowSize, windowSize, k);
+  }
+
+  /**
+   * Emit the k most common words of each window over a live text stream.
+   *
+   * <p>A new window opens every {@code every}: when it equals {@code windowSize} the
+   * windows are tumbling, when it is shorter they slide and overlap. Each window is
+   * summarized by a {@link HeavyHitters} sketch, so memory stays bounded whatever the
+   * vocabulary size. Empty windows emit an empty list.
+   *
+   * @param lines      a {@code Flux} of text lines
+   * @param windowSize how much time each window covers
+   * @param every      how often a new window opens
+   * @param k          how many words to report per window
+   * @return a {@code Flux} emitting one ranking per window, most common word first
+   */
+  public Flux<List<Map.Entry<String, Long>>> findTopWordsInWindows(Flux<String> lines,
+                                                                   Duration windowSize,
+                                                                   Duration every,
+                                                                   int k) {
+    if (k <= 0) {
+      return Flux.error(new IllegalArgumentException("k must be > 0"));
+    }
+    if (lines == null) {
+      return Flux.empty();
+    }
+    Flux<Flux<String>> windows = windowSize.equals(every)
+                                 ? lines.window(windowSize)
+                                 : lines.window(windowSize, every);
+    // overlapping windows must be consumed concurrently, but rankings keep window order
+    return windows.flatMapSequential(window -> window.reduceWith(() -> new HeavyHitters(k),
+                                                                 HeavyHitters::addWords)
+                                                     .map(HeavyHitters::topK));
+  }
+
+  /**
+   * Find all longest words of a text arriving in chunks, in order of appearance.
+   * Words may span chunk boundaries; chunks may be reused by the publisher once emitted.
+   */
+  public Flux<String> findLongestWordsReactive(Flux<CharBuffer> chunks) {
+    if (chunks == null) {
+      return Flux.empty();
+    }
+    return chunks.reduceWith(LongestWords::new, LongestWords::accept)
+                 .flatMapIterable(LongestWords::finish);
+  }
+
+  /**
+   * Count distinct words of a stream in bounded memory
+   */
+  public Mono<Long> countDistinctWordsReactive(Flux<String> words) {
+    return countDistinctWordsReactive(words, CardinalityEstimator.DEFAULT_EXACT_THRESHOLD);
+  }
+
+  /**
+   * Count distinct words of a stream: exact until {@code exactThreshold} distinct words
+   * have been seen, then estimated with HyperLogLog so memory stops growing
+   */
+  public Mono<Long> countDistinctWordsReactive(Flux<String> words, int exactThreshold) {
+    if (words == null) {
+      return Mono.just(0L);
+    }
+    return words.filter(Objects::nonNull)
+                .reduceWith(() -> new CardinalityEstimator<String>(exactThreshold, HyperLogLog.DEFAULT_PRECISION),
+                            CardinalityEstimator::add)
+                .map(CardinalityEstimator::estimate);
+  }
+
   /**
    * Emit words with index (position) in the stream
    */
   public Flux<String> emitWordsWithIndex(Flux<String> words){
-    return words.index().map(tuple -> tuple.getT1() + ": " + tuple.getT2());
+    // index() would allocate a Tuple2 and a boxed Long per word; a per-subscription
+    // counter and builder do the same job (onNext is never called concurrently)
+    return Flux.defer(() -> {
+      long[] index = {0};
+      StringBuilder line = new StringBuilder(32);
+      return words.map(word -> {
+        line.setLength(0);
+        return line.append(index[0]++).append(": ").append(word).toString();
+      });
+    });
+  }
+
+  /**
+   * Emit words with index as encoded bytes ready to be written to a channel or socket.
+   * Each buffer is freshly allocated, exactly sized, and flipped for reading. With an
+   * ASCII-compatible charset the index is written straight as bytes, and the word is
+   * the only thing that goes through the encoder.
+   */
+  public Flux<ByteBuffer> emitWordsWithIndexEncoded(Flux<String> words, Charset charset){
+    boolean asciiCompatible = charset.equals(StandardCharsets.UTF_8)
+                              || charset.equals(StandardCharsets.US_ASCII)
+                              || charset.equals(StandardCharsets.ISO_8859_1);
+    if (!asciiCompatible) {
+      return emitWordsWithIndex(words).map(line -> ByteBuffer.wrap(line.getBytes(charset)));
+    }
+    return Flux.defer(() -> {
+      long[] index = {0};
+      return words.map(word -> {
+        byte[] encoded = word.getBytes(charset);
+        long current = index[0]++;
+        int digits = digits(current);
+        ByteBuffer buffer = ByteBuffer.allocate(digits + 2 + encoded.length);
+        byte[] array = buffer.array();
+        for (int i = digits - 1; i >= 0; i--) {
+          array[i] = (byte) ('0' + current % 10);
+          current /= 10;
+        }
+        array[digits] = ':';
+        array[digits + 1] = ' ';
+        System.arraycopy(encoded, 0, array, digits + 2, encoded.length);
+        return buffer;
+      });
+    });
+  }
+
+  private static int digits(long value) {
+    int digits = 1;
+    while (value >= 10) {
+      value /= 10;
+      digits++;
+    }
+    return digits;
   }
 
   /**
-   * Group characters by vowel/consonant reactively
+   * Group letters by vowel/consonant reactively, lower-cased; the lists are views over the
+   * grouped characters, not copies
    */
   public Mono<Map<String, List<Character>>> groupByVowelConsonant(String input) {
     if (input == null) {
       return Mono.just(Map.of());
     }
-    return Flux.fromStream(input.chars().mapToObj(c -> (char) c))
-               .map(Character::toLowerCase)
-               .filter(Character::isLetter)
-               .collect(groupingBy(c -> "aeiou".indexOf(c) >= 0 ? "vowel" : "consonant"))
-               .map(map -> {
-                  map.putIfAbsent("vowel", List.of());
-                  map.putIfAbsent("consonant", List.of());
-                  return map;
-               });
+    return groupByCharacterClassReactive(Flux.just(CharBuffer.wrap(input)), CharClassTable.current(), true)
+               .map(groups -> Map.of("vowel", groups.characterList(CharClass.VOWEL),
+                                     "consonant", groups.characterList(CharClass.CONSONANT)));
+  }
+
+  /**
+   * Count the characters of each class (vowel, consonant, digit, whitespace, punctuation)
+   * of a text arriving in chunks, in one pass
+   */
+  public Mono<CharClassGroups> groupByCharacterClassReactive(Flux<CharBuffer> chunks) {
+    return groupByCharacterClassReactive(chunks, CharClassTable.current(), false);
+  }
+
+  /**
+   * Group the characters of a text arriving in chunks with the given classifier, keeping the
+   * characters of each class or only their counts
+   */
+  public Mono<CharClassGroups> groupByCharacterClassReactive(Flux<CharBuffer> chunks, CharClassifier classifier,
+                                                             boolean keepCharacters) {
+    if (chunks == null) {
+      return Mono.just(new CharClassGrouper(classifier, keepCharacters).finish());
+    }
+    return chunks.reduceWith(() -> new CharClassGrouper(classifier, keepCharacters), CharClassGrouper::accept)
+                 .map(CharClassGrouper::finish);
   }
 
   /**
@@ -193,6 +431,17 @@ public class ReactiveStringProcessor {
     return input.onErrorResume(e -> Mono.justOrEmpty(fallback));
   }
 
+  /**
+   * Emit default value on error, and without even subscribing to the input
+   * while the circuit breaker is open
+   */
+  public Mono<String> processWithFallback(Mono<String> input, String fallback, CircuitBreaker breaker) {
+    if (input == null) {
+      return Mono.justOrEmpty(fallback);
+    }
+    return processWithFallback(breaker.protect(input), fallback);
+  }
+
   /**
    * Batch process strings in groups of N
    */
@@ -206,6 +455,21 @@ public class ReactiveStringProcessor {
     return words.buffer(batchSize);
   }
 
+  /**
+   * Analyze documents in batches of N, one columnar result per batch
+   */
+  public Flux<BatchTextStats> analyzeInBatches(Flux<String> documents, int batchSize) {
+    return analyzeInBatches(documents, batchSize, new BatchTextAnalyzer());
+  }
+
+  /**
+   * Analyze documents in batches of N with the given analyzer; documents within a batch
+   * are analyzed in parallel, batches one after the other, in order
+   */
+  public Flux<BatchTextStats> analyzeInBatches(Flux<String> documents, int batchSize, BatchTextAnalyzer analyzer) {
+    return batchWords(documents, batchSize).map(analyzer::analyze);
+  }
+
   /**
    * Retry operation up to N times on failure
    */
@@ -219,6 +483,27 @@ public class ReactiveStringProcessor {
     return input.retry(maxRetries);
   }
 
+  /**
+   * Retry with backoff and jitter, within the policy's shared retry budget
+   */
+  public Mono<String> processWithRetry(Mono<String> input, RetryPolicy policy) {
+    if (input == null) {
+      return Mono.empty();
+    }
+    return policy.apply(input);
+  }
+
+  /**
+   * Retry with backoff and jitter behind a circuit breaker: every attempt asks the
+   * breaker first, and once it opens the remaining retries are abandoned
+   */
+  public Mono<String> processWithRetry(Mono<String> input, RetryPolicy policy, CircuitBreaker breaker) {
+    if (input == null) {
+      return Mono.empty();
+    }
+    return policy.apply(breaker.protect(input));
+  }
+
   /**
    * Transform words and collect to a single concatenated string
    */
@@ -235,19 +520,22 @@ public class ReactiveStringProcessor {
     * Emit characters with exponential backoff delay
     */
    public Flux<Character> emitWithBackoff(String input){
-     if (input == null || input.isEmpty()) return Flux.empty();
-     Duration base = Duration.ofMillis(100);
-     return Flux.fromStream(input.chars().mapToObj(c -> (char) c))
-                .index()
-                .concatMap(tuple -> {
-                   long idx = tuple.getT1();
-                   int capped = (int) Math.min(idx, 30); // evita overflow no shift
-                   long multiplier = 1L << capped;
-                   Duration delay = base.multipliedBy(multiplier);
-                   return Mono.just(tuple.getT2()).delayElement(delay);
-                });
+     return emitWithBackoff(input, Backoff.exponential(Duration.ofMillis(100)), Schedulers.parallel());
    }
 
+  /**
+   * Emit characters with the delays of the given backoff (capped and jittered),
+   * timed on the given scheduler. Pass a {@link WheelScheduler} when many flows
+   * back off concurrently.
+   */
+  public Flux<Character> emitWithBackoff(String input, Backoff backoff, Scheduler timer) {
+    if (input == null || input.isEmpty()) return Flux.empty();
+    return Flux.fromStream(input.chars().mapToObj(c -> (char) c))
+               .index()
+               .concatMap(tuple -> Mono.just(tuple.getT2())
+                                       .delayElement(backoff.delayFor(tuple.getT1()), timer));
+  }
+
   /**
    * Process in parallel and collect results
    */
@@ -0,0 +1,67 @@
+package com.example.reactive;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that limits retries to a fraction of the traffic.
+ *
+ * <p>Every request deposits {@code retryRatio} tokens, every retry withdraws one, and the
+ * balance never exceeds {@code maxTokens}. With a ratio of 0.1 at most one retry is made
+ * per ten requests once the initial balance is spent, so an outage cannot turn into a
+ * retry storm. Share one budget between all callers of the same upstream.
+ */
+public class RetryBudget {
+
+  // balance kept in thousandths of a token so fractional deposits stay lock-free
+  private static final long SCALE = 1000;
+
+  private final long depositPerRequest;
+  private final long maxBalance;
+  private final AtomicLong balance;
+
+  public RetryBudget(double retryRatio, int maxTokens) {
+    if (retryRatio < 0 || retryRatio > 1) {
+      throw new IllegalArgumentException("retryRatio must be between 0 and 1");
+    }
+    if (maxTokens <= 0) {
+      throw new IllegalArgumentException("maxTokens must be > 0");
+    }
+    this.depositPerRequest = Math.round(retryRatio * SCALE);
+    this.maxBalance = maxTokens * SCALE;
+    this.balance = new AtomicLong(maxBalance);
+  }
+
+  /**
+   * A budget that never runs out
+   */
+  public static RetryBudget unlimited() {
+    return new RetryBudget(1, Integer.MAX_VALUE) {
+      @Override
+      public boolean tryWithdraw() {
+        return true;
+      }
+    };
+  }
+
+  public void recordRequest() {
+    balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(current + deposit, maxBalance));
+  }
+
+  /**
+   * Take one token for a retry; false when the budget is spent and the retry must not happen
+   */
+  public boolean tryWithdraw() {
+    long current;
+    do {
+      current = balance.get();
+      if (current < SCALE) {
+        return false;
+      }
+    } while (!balance.compareAndSet(current, current - SCALE));
+    return true;
+  }
+
+  public double availableTokens() {
+    return (double) balance.get() / SCALE;
+  }
+}
@@ -0,0 +1,67 @@
+package com.example.reactive;
+
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * How a failed call is retried: at most {@code maxRetries} times, waiting
+ * {@link Backoff#delayFor(long)} between attempts, and only while the shared
+ * {@link RetryBudget} has tokens left. Calls rejected by an open
+ * {@link CircuitBreaker} are never retried.
+ *
+ * @param maxRetries retries after the first attempt
+ * @param backoff    delay between attempts
+ * @param budget     retry budget shared by every caller of the upstream
+ */
+public record RetryPolicy(int maxRetries, Backoff backoff, RetryBudget budget) {
+
+  public RetryPolicy {
+    if (maxRetries < 0) {
+      throw new IllegalArgumentException("maxRetries must be >= 0");
+    }
+    if (backoff == null || budget == null) {
+      throw new IllegalArgumentException("backoff and budget are required");
+    }
+  }
+
+  /**
+   * Exponential backoff from {@code base}, capped at 10 seconds, with 50% jitter and no budget
+   */
+  public static RetryPolicy exponential(int maxRetries, Duration base) {
+    Duration max = base.compareTo(Duration.ofSeconds(10)) > 0 ? base : Duration.ofSeconds(10);
+    return new RetryPolicy(maxRetries, new Backoff(base, max, 0.5), RetryBudget.unlimited());
+  }
+
+  public RetryPolicy withBudget(RetryBudget budget) {
+    return new RetryPolicy(maxRetries, backoff, budget);
+  }
+
+  public RetryPolicy withBackoff(Backoff backoff) {
+    return new RetryPolicy(maxRetries, backoff, budget);
+  }
+
+  /**
+   * Apply the policy to {@code source}: one budget deposit per subscription,
+   * then retries as long as attempts, budget and breaker allow
+   */
+  public <T> Mono<T> apply(Mono<T> source) {
+    return Mono.defer(() -> {
+      budget.recordRequest();
+      return source.retryWhen(toRetry());
+    });
+  }
+
+  public Retry toRetry() {
+    return Retry.from(signals -> signals.concatMap(signal -> {
+      Throwable failure = signal.failure();
+      if (signal.totalRetries() >= maxRetries
+          || failure instanceof CircuitBreaker.OpenException
+          || !budget.tryWithdraw()) {
+        return Mono.<Long>error(failure);
+      }
+      return Mono.delay(backoff.delayFor(signal.totalRetries()));
+    }));
+  }
+}
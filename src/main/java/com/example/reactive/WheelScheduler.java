@@ -0,0 +1,173 @@
+package com.example.reactive;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.Exceptions;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Reactor {@link Scheduler} that keeps delayed tasks on a {@link HashedWheelTimer}
+ * instead of a per-task entry in a scheduled executor's heap.
+ *
+ * <p>With tens of thousands of concurrent {@code delayElements}/{@code delayElement}
+ * flows the delegate executor only sees a task when its delay has expired; until then
+ * a delay costs one O(1) wheel slot. Delays are rounded up to the next tick.
+ * Immediate tasks go straight to the delegate.
+ */
+public class WheelScheduler implements Scheduler {
+
+  private final HashedWheelTimer timer;
+  private final Scheduler delegate;
+  private final boolean ownsTimer;
+
+  public WheelScheduler(HashedWheelTimer timer, Scheduler delegate) {
+    this(timer, delegate, false);
+  }
+
+  private WheelScheduler(HashedWheelTimer timer, Scheduler delegate, boolean ownsTimer) {
+    this.timer = timer;
+    this.delegate = delegate;
+    this.ownsTimer = ownsTimer;
+  }
+
+  /**
+   * A scheduler with its own timer, running expired tasks on {@link Schedulers#parallel()}
+   */
+  public static WheelScheduler create(Duration tick, int wheelSize) {
+    return new WheelScheduler(new HashedWheelTimer(tick, wheelSize), Schedulers.parallel(), true);
+  }
+
+  public HashedWheelTimer timer() {
+    return timer;
+  }
+
+  @Override
+  public Disposable schedule(Runnable task) {
+    return delegate.schedule(task);
+  }
+
+  @Override
+  public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+    if (delay <= 0) {
+      return delegate.schedule(task);
+    }
+    TimedTask timed = new TimedTask(task, delegate::schedule, null);
+    timed.arm(delay, unit);
+    return timed;
+  }
+
+  @Override
+  public long now(TimeUnit unit) {
+    return delegate.now(unit);
+  }
+
+  @Override
+  public Worker createWorker() {
+    return new WheelWorker(delegate.createWorker());
+  }
+
+  @Override
+  public void dispose() {
+    if (ownsTimer) {
+      timer.close();
+    }
+  }
+
+  /**
+   * A delayed task: parked on the wheel, then handed to its target when it fires.
+   * Disposing it either cancels the timeout or the already handed-off task.
+   */
+  private final class TimedTask implements Runnable, Disposable {
+    private final Runnable task;
+    private final Function<Runnable, Disposable> target;
+    private final Disposable.Composite parent;
+    private final Disposable.Swap running = Disposables.swap();
+    private volatile HashedWheelTimer.Timeout timeout;
+
+    private TimedTask(Runnable task, Function<Runnable, Disposable> target, Disposable.Composite parent) {
+      this.task = task;
+      this.target = target;
+      this.parent = parent;
+    }
+
+    private void arm(long delay, TimeUnit unit) {
+      timeout = timer.newTimeout(this, delay, unit);
+    }
+
+    @Override
+    public void run() {
+      // replace() disposes the new task right away if this one was disposed meanwhile
+      running.replace(target.apply(parent == null ? task : this::runTracked));
+    }
+
+    private void runTracked() {
+      parent.remove(this);
+      task.run();
+    }
+
+    @Override
+    public void dispose() {
+      HashedWheelTimer.Timeout current = timeout;
+      if (current != null) {
+        current.cancel();
+      }
+      running.dispose();
+      // a cancelled task never reaches runTracked(): untrack it here, or the worker keeps it
+      if (parent != null) {
+        parent.remove(this);
+      }
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return running.isDisposed();
+    }
+  }
+
+  /**
+   * Worker whose tasks all run on one delegate worker, preserving Reactor's
+   * guarantee that a worker never runs two tasks concurrently
+   */
+  private final class WheelWorker implements Worker {
+    private final Worker delegateWorker;
+    private final Disposable.Composite tasks = Disposables.composite();
+
+    private WheelWorker(Worker delegateWorker) {
+      this.delegateWorker = delegateWorker;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+      return delegateWorker.schedule(task);
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+      if (delay <= 0) {
+        return delegateWorker.schedule(task);
+      }
+      TimedTask timed = new TimedTask(task, delegateWorker::schedule, tasks);
+      if (!tasks.add(timed)) {
+        throw Exceptions.failWithRejected();
+      }
+      timed.arm(delay, unit);
+      return timed;
+    }
+
+    @Override
+    public void dispose() {
+      tasks.dispose();
+      delegateWorker.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return tasks.isDisposed();
+    }
+  }
+}
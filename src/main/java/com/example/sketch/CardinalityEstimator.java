@@ -0,0 +1,86 @@
+package com.example.sketch;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collector;
+
+/**
+ * Hybrid distinct counter: exact while the input is small, HyperLogLog once it grows.
+ * Items are kept in a {@link HashSet} until more than {@code exactThreshold} distinct
+ * values are seen; then they are folded into a {@link HyperLogLog} and the set is dropped,
+ * so memory stops growing with the input.
+ */
+public class CardinalityEstimator<T> {
+
+  public static final int DEFAULT_EXACT_THRESHOLD = 10_000;
+
+  private final int exactThreshold;
+  private final int precision;
+  private Set<T> exact = new HashSet<>();
+  private HyperLogLog approximate;
+
+  public CardinalityEstimator() {
+    this(DEFAULT_EXACT_THRESHOLD, HyperLogLog.DEFAULT_PRECISION);
+  }
+
+  public CardinalityEstimator(int exactThreshold, int precision) {
+    if (exactThreshold < 0) {
+      throw new IllegalArgumentException("exactThreshold must be >= 0");
+    }
+    this.exactThreshold = exactThreshold;
+    this.precision = precision;
+  }
+
+  public CardinalityEstimator<T> add(T item) {
+    if (approximate != null) {
+      approximate.add(item);
+    } else if (exact.add(item) && exact.size() > exactThreshold) {
+      switchToApproximate();
+    }
+    return this;
+  }
+
+  public CardinalityEstimator<T> merge(CardinalityEstimator<T> other) {
+    if (other.approximate != null) {
+      if (approximate == null) {
+        switchToApproximate();
+      }
+      approximate.merge(other.approximate);
+    } else {
+      other.exact.forEach(this::add);
+    }
+    return this;
+  }
+
+  public long estimate() {
+    return approximate == null ? exact.size() : approximate.estimate();
+  }
+
+  /**
+   * Whether {@link #estimate()} is still an exact count
+   */
+  public boolean isExact() {
+    return approximate == null;
+  }
+
+  /**
+   * Count distinct elements of a stream, exactly up to the default threshold; safe for parallel streams
+   */
+  public static <T> Collector<T, ?, Long> counting() {
+    return counting(DEFAULT_EXACT_THRESHOLD, HyperLogLog.DEFAULT_PRECISION);
+  }
+
+  public static <T> Collector<T, ?, Long> counting(int exactThreshold, int precision) {
+    return Collector.of(() -> new CardinalityEstimator<T>(exactThreshold, precision),
+                        CardinalityEstimator::add,
+                        CardinalityEstimator::merge,
+                        CardinalityEstimator::estimate,
+                        Collector.Characteristics.UNORDERED);
+  }
+
+  private void switchToApproximate() {
+    approximate = new HyperLogLog(precision);
+    exact.forEach(approximate::add);
+    exact = null;
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.sketch;
+
+/**
+ * Count-Min Sketch: frequency estimates in fixed memory.
+ * Estimates never undercount; with probability {@code 1 - delta} they overcount
+ * by at most {@code epsilon * totalCount}.
+ */
+public class CountMinSketch {
+
+  private final int width;
+  private final int depth;
+  private final long[] table;
+  private long totalCount;
+
+  public CountMinSketch(int width, int depth) {
+    if (width <= 0 || depth <= 0) {
+      throw new IllegalArgumentException("width and depth must be > 0");
+    }
+    this.width = width;
+    this.depth = depth;
+    this.table = new long[width * depth];
+  }
+
+  /**
+   * Size the sketch from the error bound {@code epsilon} and failure probability {@code delta}
+   */
+  public static CountMinSketch withErrorBounds(double epsilon, double delta) {
+    if (epsilon <= 0 || delta <= 0 || delta >= 1) {
+      throw new IllegalArgumentException("epsilon must be > 0 and delta in (0, 1)");
+    }
+    int width = (int) Math.ceil(Math.E / epsilon);
+    int depth = (int) Math.ceil(Math.log(1 / delta));
+    return new CountMinSketch(width, depth);
+  }
+
+  public void add(CharSequence item) {
+    add(Hashing.hash64(item), 1);
+  }
+
+  public void add(long hash, long count) {
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int row = 0; row < depth; row++) {
+      table[row * width + bucket(h1, h2, row)] += count;
+    }
+    totalCount += count;
+  }
+
+  public long estimate(CharSequence item) {
+    return estimate(Hashing.hash64(item));
+  }
+
+  public long estimate(long hash) {
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    long min = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      min = Math.min(min, table[row * width + bucket(h1, h2, row)]);
+    }
+    return min;
+  }
+
+  public long totalCount() {
+    return totalCount;
+  }
+
+  // Kirsch-Mitzenmacher: derive the row hashes from two halves of one 64-bit hash
+  private int bucket(int h1, int h2, int row) {
+    int combined = h1 + row * h2;
+    return (combined & Integer.MAX_VALUE) % width;
+  }
+}
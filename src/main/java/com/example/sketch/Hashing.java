@@ -0,0 +1,49 @@
+package com.example.sketch;
+
+/**
+ * 64-bit hashing shared by the probabilistic sketches.
+ * {@link Object#hashCode()} only gives 32 bits, which is not enough to tell
+ * billions of distinct items apart, so strings are hashed from their chars.
+ */
+public final class Hashing {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private Hashing() {
+  }
+
+  /**
+   * FNV-1a over the chars of the sequence, finished with the MurmurHash3 mixer
+   */
+  public static long hash64(CharSequence value) {
+    long h = FNV_OFFSET;
+    for (int i = 0; i < value.length(); i++) {
+      h ^= value.charAt(i);
+      h *= FNV_PRIME;
+    }
+    return mix64(h);
+  }
+
+  /**
+   * Hash any object: strings by content, everything else through its hashCode
+   */
+  public static long hash64(Object value) {
+    if (value instanceof CharSequence sequence) {
+      return hash64(sequence);
+    }
+    return mix64(value.hashCode());
+  }
+
+  /**
+   * MurmurHash3 fmix64 finalizer - spreads every input bit over the whole word
+   */
+  public static long mix64(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.sketch;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded-memory heavy hitters: Space-Saving picks the top-k candidates and a
+ * Count-Min Sketch tightens their counts. Both only overestimate, so the smaller
+ * of the two is the better estimate.
+ */
+public class HeavyHitters {
+
+  private final int k;
+  private final SpaceSaving candidates;
+  private final CountMinSketch sketch;
+
+  public HeavyHitters(int k) {
+    this(k, Math.max(k * 10, 64), 0.001, 0.01);
+  }
+
+  public HeavyHitters(int k, int capacity, double epsilon, double delta) {
+    if (k <= 0 || capacity < k) {
+      throw new IllegalArgumentException("k must be > 0 and capacity >= k");
+    }
+    this.k = k;
+    this.candidates = new SpaceSaving(capacity);
+    this.sketch = CountMinSketch.withErrorBounds(epsilon, delta);
+  }
+
+  public void add(String item) {
+    candidates.offer(item);
+    sketch.add(item);
+  }
+
+  /**
+   * Split the text into lower-cased words (same word definition as {@code \W+})
+   * and add each of them
+   */
+  public HeavyHitters addWords(CharSequence text) {
+    int start = -1;
+    for (int i = 0; i <= text.length(); i++) {
+      boolean wordChar = i < text.length() && isWordChar(text.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        add(text.subSequence(start, i).toString().toLowerCase());
+        start = -1;
+      }
+    }
+    return this;
+  }
+
+  /**
+   * The k most frequent items, highest count first
+   */
+  public List<Map.Entry<String, Long>> topK() {
+    return candidates.top(k)
+                     .stream()
+                     .map(e -> Map.entry(e.getKey(), Math.min(e.getValue(), sketch.estimate(e.getKey()))))
+                     .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                                      .thenComparing(Map.Entry.comparingByKey()))
+                     .toList();
+  }
+
+  public long totalCount() {
+    return sketch.totalCount();
+  }
+
+  private static boolean isWordChar(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+  }
+}
@@ -0,0 +1,132 @@
+package com.example.sketch;
+
+import java.util.*;
+
+/**
+ * Space-Saving top-k summary (Metwally et al.).
+ * Keeps at most {@code capacity} counters; when a new item arrives and the summary
+ * is full, it takes over the smallest counter. Counts are overestimates by at most
+ * the error recorded when the counter was taken over.
+ */
+public class SpaceSaving {
+
+  private final int capacity;
+  private final Map<String, Counter> counters;
+  // binary min-heap on count so the victim is always at index 0
+  private final Counter[] heap;
+  private int size;
+
+  public SpaceSaving(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be > 0");
+    }
+    this.capacity = capacity;
+    this.counters = new HashMap<>(capacity * 2);
+    this.heap = new Counter[capacity];
+  }
+
+  public void offer(String item) {
+    Counter counter = counters.get(item);
+    if (counter != null) {
+      counter.count++;
+      siftDown(counter.heapIndex);
+      return;
+    }
+    if (size < capacity) {
+      counter = new Counter(item, 1, 0);
+      counter.heapIndex = size;
+      heap[size++] = counter;
+      counters.put(item, counter);
+      siftUp(counter.heapIndex);
+      return;
+    }
+    Counter victim = heap[0];
+    counters.remove(victim.item);
+    victim.item = item;
+    victim.error = victim.count;
+    victim.count++;
+    counters.put(item, victim);
+    siftDown(0);
+  }
+
+  /**
+   * Upper bound of the item's count, or 0 when the item is not monitored
+   */
+  public long count(String item) {
+    Counter counter = counters.get(item);
+    return counter == null ? 0 : counter.count;
+  }
+
+  /**
+   * Lower bound of the item's count: what it has certainly seen since it was monitored
+   */
+  public long guaranteedCount(String item) {
+    Counter counter = counters.get(item);
+    return counter == null ? 0 : counter.count - counter.error;
+  }
+
+  /**
+   * The k monitored items with the highest counts, highest first
+   */
+  public List<Map.Entry<String, Long>> top(int k) {
+    return Arrays.stream(heap, 0, size)
+                 .sorted(Comparator.comparingLong((Counter c) -> c.count).reversed()
+                                   .thenComparing(c -> c.item))
+                 .limit(k)
+                 .map(c -> Map.entry(c.item, c.count))
+                 .toList();
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private void siftUp(int index) {
+    Counter counter = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (heap[parent].count <= counter.count) {
+        break;
+      }
+      place(heap[parent], index);
+      index = parent;
+    }
+    place(counter, index);
+  }
+
+  private void siftDown(int index) {
+    Counter counter = heap[index];
+    int half = size >>> 1;
+    while (index < half) {
+      int child = 2 * index + 1;
+      int right = child + 1;
+      if (right < size && heap[right].count < heap[child].count) {
+        child = right;
+      }
+      if (counter.count <= heap[child].count) {
+        break;
+      }
+      place(heap[child], index);
+      index = child;
+    }
+    place(counter, index);
+  }
+
+  private void place(Counter counter, int index) {
+    heap[index] = counter;
+    counter.heapIndex = index;
+  }
+
+  private static final class Counter {
+    private String item;
+    private long count;
+    private long error;
+    private int heapIndex;
+
+    private Counter(String item, long count, long error) {
+      this.item = item;
+      this.count = count;
+      this.error = error;
+    }
+  }
+}
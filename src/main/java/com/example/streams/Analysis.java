@@ -0,0 +1,38 @@
+package com.example.streams;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * One named computation over a request's input, run by an {@link AnalysisRunner}; also the
+ * key of its result in the {@link AnalysisResults}.
+ *
+ * <p>Analyses are compared by identity, so two analyses with the same name are different keys.
+ */
+public final class Analysis<I, R> {
+
+  private final String name;
+  private final Function<? super I, ? extends R> function;
+
+  private Analysis(String name, Function<? super I, ? extends R> function) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.function = Objects.requireNonNull(function, "function");
+  }
+
+  public static <I, R> Analysis<I, R> of(String name, Function<? super I, ? extends R> function) {
+    return new Analysis<>(name, function);
+  }
+
+  public String name() {
+    return name;
+  }
+
+  R apply(I input) {
+    return function.apply(input);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
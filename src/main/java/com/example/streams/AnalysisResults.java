@@ -0,0 +1,35 @@
+package com.example.streams;
+
+import java.util.Map;
+
+/**
+ * The results of every analysis an {@link AnalysisRunner} ran for one input
+ */
+public final class AnalysisResults {
+
+  private final Map<Analysis<?, ?>, Object> results;
+
+  AnalysisResults(Map<Analysis<?, ?>, Object> results) {
+    this.results = results;
+  }
+
+  /**
+   * @throws IllegalArgumentException if the analysis was not run
+   */
+  @SuppressWarnings("unchecked")
+  public <R> R get(Analysis<?, R> analysis) {
+    if (!results.containsKey(analysis)) {
+      throw new IllegalArgumentException("not run: " + analysis);
+    }
+    return (R) results.get(analysis);
+  }
+
+  public int size() {
+    return results.size();
+  }
+
+  @Override
+  public String toString() {
+    return results.toString();
+  }
+}
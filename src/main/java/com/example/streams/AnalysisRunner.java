@@ -0,0 +1,136 @@
+package com.example.streams;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs a fixed set of {@link Analysis analyses} over one input, typically a request, and
+ * combines their results.
+ *
+ * <p>Three modes, to compare:
+ * <ul>
+ *   <li>{@link Mode#SEQUENTIAL}: one analysis after the other on the calling thread; the
+ *   deadline is checked between analyses.</li>
+ *   <li>{@link Mode#FUTURES}: one {@link CompletableFuture} per analysis on the common pool,
+ *   joined with {@code allOf}. A failure is only reported once every analysis has finished,
+ *   and on a failure or a timeout the others are cancelled but not interrupted: they keep
+ *   running after {@link #run} returned.</li>
+ *   <li>{@link Mode#STRUCTURED}: one virtual thread per analysis in a
+ *   {@link StructuredTaskScope.ShutdownOnFailure}. The first failure, or the deadline, shuts
+ *   the scope down, which interrupts the other analyses; {@link #run} returns only once all of
+ *   them have stopped, so nothing outlives the call.</li>
+ * </ul>
+ *
+ * <p>Interrupting a thread only stops code that checks for it: a stream pipeline runs to its
+ * end, and the scope waits for it before dropping its result, so a deadline is only as prompt
+ * as the analyses. Long analyses should poll {@link Thread#interrupted()}.
+ * {@code StructuredTaskScope} is a preview API in Java 21, hence {@code --enable-preview} in
+ * the build.
+ */
+public final class AnalysisRunner<I> {
+
+  public enum Mode {
+    SEQUENTIAL,
+    FUTURES,
+    STRUCTURED
+  }
+
+  private final List<Analysis<I, ?>> analyses;
+  private final Mode mode;
+
+  public AnalysisRunner(List<Analysis<I, ?>> analyses, Mode mode) {
+    this.analyses = List.copyOf(analyses);
+    this.mode = Objects.requireNonNull(mode, "mode");
+  }
+
+  @SafeVarargs
+  public static <I> AnalysisRunner<I> structured(Analysis<I, ?>... analyses) {
+    return new AnalysisRunner<>(List.of(analyses), Mode.STRUCTURED);
+  }
+
+  public AnalysisRunner<I> withMode(Mode mode) {
+    return new AnalysisRunner<>(analyses, mode);
+  }
+
+  public Mode mode() {
+    return mode;
+  }
+
+  /**
+   * Run every analysis over the input, within the timeout
+   *
+   * @throws ExecutionException if an analysis failed; the cause is its exception
+   * @throws TimeoutException   if the analyses did not all finish within the timeout
+   */
+  public AnalysisResults run(I input, Duration timeout)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    Instant deadline = Instant.now().plus(timeout);
+    return switch (mode) {
+      case SEQUENTIAL -> runSequentially(input, deadline);
+      case FUTURES -> runWithFutures(input, timeout);
+      case STRUCTURED -> runStructured(input, deadline);
+    };
+  }
+
+  private AnalysisResults runSequentially(I input, Instant deadline) throws ExecutionException, TimeoutException {
+    Map<Analysis<?, ?>, Object> results = new LinkedHashMap<>();
+    for (Analysis<I, ?> analysis : analyses) {
+      if (Instant.now().isAfter(deadline)) {
+        throw new TimeoutException("deadline passed before " + analysis);
+      }
+      try {
+        results.put(analysis, analysis.apply(input));
+      } catch (RuntimeException e) {
+        throw new ExecutionException(e);
+      }
+    }
+    return new AnalysisResults(results);
+  }
+
+  private AnalysisResults runWithFutures(I input, Duration timeout)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    List<CompletableFuture<?>> futures = new ArrayList<>(analyses.size());
+    for (Analysis<I, ?> analysis : analyses) {
+      futures.add(CompletableFuture.supplyAsync(() -> analysis.apply(input)));
+    }
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                       .get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException | TimeoutException | InterruptedException e) {
+      futures.forEach(future -> future.cancel(true));
+      throw e;
+    }
+    Map<Analysis<?, ?>, Object> results = new LinkedHashMap<>();
+    for (int i = 0; i < analyses.size(); i++) {
+      results.put(analyses.get(i), futures.get(i).join());
+    }
+    return new AnalysisResults(results);
+  }
+
+  private AnalysisResults runStructured(I input, Instant deadline)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+      List<StructuredTaskScope.Subtask<?>> subtasks = new ArrayList<>(analyses.size());
+      for (Analysis<I, ?> analysis : analyses) {
+        subtasks.add(scope.fork(() -> analysis.apply(input)));
+      }
+      scope.joinUntil(deadline);
+      scope.throwIfFailed();
+      Map<Analysis<?, ?>, Object> results = new LinkedHashMap<>();
+      for (int i = 0; i < analyses.size(); i++) {
+        results.put(analyses.get(i), subtasks.get(i).get());
+      }
+      return new AnalysisResults(results);
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package com.example.streams;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Analyzes many short documents in one call, instead of one {@link StreamExamples} pipeline
+ * per document.
+ *
+ * <p>The batch is split into ranges of documents that run on the fork/join pool. Each range
+ * counts characters into a counter table borrowed from a small shared pool and reused across
+ * documents and calls: only the entries a document touched are reset after it, so the
+ * per-document cost is proportional to its length, not to the table size. The pool, rather
+ * than a {@code ThreadLocal}, keeps the reuse on short-lived threads too, such as the virtual
+ * thread per request of an {@link AnalysisRunner}. Results are written straight into
+ * the columns of a {@link BatchTextStats}; documents are independent, so no merging is needed.
+ */
+public class BatchTextAnalyzer {
+
+  public static final int DEFAULT_DOCUMENTS_PER_TASK = 512;
+
+  // one table per core is enough for the fork/join workers; extra tables are dropped
+  private static final BlockingQueue<Counters> COUNTERS =
+      new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+  private final ForkJoinPool pool;
+  private final int documentsPerTask;
+
+  public BatchTextAnalyzer() {
+    this(ForkJoinPool.commonPool(), DEFAULT_DOCUMENTS_PER_TASK);
+  }
+
+  public BatchTextAnalyzer(ForkJoinPool pool, int documentsPerTask) {
+    if (documentsPerTask <= 0) {
+      throw new IllegalArgumentException("documentsPerTask must be > 0");
+    }
+    this.pool = Objects.requireNonNull(pool, "pool");
+    this.documentsPerTask = documentsPerTask;
+  }
+
+  /**
+   * Analyze every document of the batch; a {@code null} document is analyzed as empty
+   */
+  public BatchTextStats analyze(List<String> documents) {
+    BatchTextStats stats = new BatchTextStats(documents.size());
+    CharClassTable table = CharClassTable.current();
+    if (documents.size() <= documentsPerTask) {
+      analyzeRange(documents, stats, table, 0, documents.size());
+    } else {
+      pool.invoke(new RangeTask(documents, stats, table, 0, documents.size(), documentsPerTask));
+    }
+    return stats;
+  }
+
+  private static void analyzeRange(List<String> documents, BatchTextStats stats, CharClassTable table, int lo, int hi) {
+    Counters counters = COUNTERS.poll();
+    if (counters == null) {
+      counters = new Counters();
+    }
+    for (int i = lo; i < hi; i++) {
+      String document = documents.get(i);
+      analyze(document == null ? "" : document, stats, table, i, counters);
+    }
+    // not returned when a document failed: its table may not be reset
+    COUNTERS.offer(counters);
+  }
+
+  private static void analyze(String document, BatchTextStats stats, CharClassTable table, int index,
+                              Counters counters) {
+    int words = 0;
+    int vowels = 0;
+    int consonants = 0;
+    int wordLength = 0;
+    int longestWord = 0;
+    for (int i = 0; i < document.length(); i++) {
+      char c = Character.toLowerCase(document.charAt(i));
+      if (ParallelTextAnalyzer.isWordChar(c)) {
+        if (wordLength++ == 0) {
+          words++;
+        }
+        longestWord = Math.max(longestWord, wordLength);
+      } else {
+        wordLength = 0;
+      }
+      int flags = table.flags(c);
+      if ((flags & CharClassTable.VOWEL) != 0) {
+        vowels++;
+      } else if ((flags & CharClassTable.CONSONANT) != 0) {
+        consonants++;
+      }
+      if (c != ' ') {
+        counters.increment(c);
+      }
+    }
+    stats.characters[index] = document.length();
+    stats.words[index] = words;
+    stats.vowels[index] = vowels;
+    stats.consonants[index] = consonants;
+    stats.longestWordLength[index] = longestWord;
+    stats.distinctCharacters[index] = counters.distinct();
+    stats.mostUsedCharacter[index] = counters.mostUsedAndReset();
+  }
+
+  private static final class RangeTask extends RecursiveAction {
+    private final List<String> documents;
+    private final BatchTextStats stats;
+    private final CharClassTable table;
+    private final int lo;
+    private final int hi;
+    private final int documentsPerTask;
+
+    private RangeTask(List<String> documents, BatchTextStats stats, CharClassTable table, int lo, int hi,
+                      int documentsPerTask) {
+      this.documents = documents;
+      this.stats = stats;
+      this.table = table;
+      this.lo = lo;
+      this.hi = hi;
+      this.documentsPerTask = documentsPerTask;
+    }
+
+    @Override
+    protected void compute() {
+      if (hi - lo <= documentsPerTask) {
+        analyzeRange(documents, stats, table, lo, hi);
+        return;
+      }
+      int mid = lo + (hi - lo) / 2;
+      invokeAll(new RangeTask(documents, stats, table, lo, mid, documentsPerTask),
+                new RangeTask(documents, stats, table, mid, hi, documentsPerTask));
+    }
+  }
+
+  /**
+   * Counts for every BMP char, plus the chars touched by the current document
+   * in order of first appearance
+   */
+  private static final class Counters {
+    private final int[] counts = new int[Character.MAX_VALUE + 1];
+    private char[] touched = new char[64];
+    private int touchedSize;
+
+    private void increment(char c) {
+      if (counts[c]++ == 0) {
+        if (touchedSize == touched.length) {
+          touched = Arrays.copyOf(touched, touchedSize * 2);
+        }
+        touched[touchedSize++] = c;
+      }
+    }
+
+    private int distinct() {
+      return touchedSize;
+    }
+
+    private char mostUsedAndReset() {
+      char mostUsed = BatchTextStats.NONE;
+      int best = 0;
+      for (int i = 0; i < touchedSize; i++) {
+        char c = touched[i];
+        if (counts[c] > best) {
+          best = counts[c];
+          mostUsed = c;
+        }
+        counts[c] = 0;
+      }
+      touchedSize = 0;
+      return mostUsed;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.example.streams;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Per-document results of a {@link BatchTextAnalyzer} batch, stored column by column:
+ * one primitive array per measure, indexed by the document's position in the batch.
+ * A million documents cost seven arrays rather than a million maps.
+ *
+ * <p>Definitions follow {@link StreamExamples}: words use the {@code \W+} split, vowels and
+ * consonants are case-insensitive, and character frequencies are lower-cased with spaces
+ * ignored.
+ */
+public final class BatchTextStats {
+
+  /**
+   * Value of {@link #mostUsedCharacter(int)} for a document without any counted character
+   */
+  public static final char NONE = '\0';
+
+  final int[] characters;
+  final int[] words;
+  final int[] vowels;
+  final int[] consonants;
+  final int[] distinctCharacters;
+  final int[] longestWordLength;
+  final char[] mostUsedCharacter;
+
+  BatchTextStats(int size) {
+    this.characters = new int[size];
+    this.words = new int[size];
+    this.vowels = new int[size];
+    this.consonants = new int[size];
+    this.distinctCharacters = new int[size];
+    this.longestWordLength = new int[size];
+    this.mostUsedCharacter = new char[size];
+  }
+
+  public int size() {
+    return characters.length;
+  }
+
+  public int characters(int document) {
+    return characters[document];
+  }
+
+  public int words(int document) {
+    return words[document];
+  }
+
+  public int vowels(int document) {
+    return vowels[document];
+  }
+
+  public int consonants(int document) {
+    return consonants[document];
+  }
+
+  /**
+   * Distinct lower-cased characters, spaces ignored
+   */
+  public int distinctCharacters(int document) {
+    return distinctCharacters[document];
+  }
+
+  public int longestWordLength(int document) {
+    return longestWordLength[document];
+  }
+
+  /**
+   * Most used lower-cased character, spaces ignored; ties go to the character seen first.
+   * {@link #NONE} for a document without any counted character.
+   */
+  public char mostUsedCharacter(int document) {
+    return mostUsedCharacter[document];
+  }
+
+  public long totalCharacters() {
+    return sum(characters);
+  }
+
+  public long totalWords() {
+    return sum(words);
+  }
+
+  public long totalVowels() {
+    return sum(vowels);
+  }
+
+  public long totalConsonants() {
+    return sum(consonants);
+  }
+
+  /**
+   * Column of word counts, for aggregating without going through the per-document accessors
+   */
+  public IntStream wordCounts() {
+    return Arrays.stream(words);
+  }
+
+  public IntStream characterCounts() {
+    return Arrays.stream(characters);
+  }
+
+  private static long sum(int[] column) {
+    long total = 0;
+    for (int value : column) {
+      total += value;
+    }
+    return total;
+  }
+}
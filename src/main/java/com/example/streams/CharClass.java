@@ -0,0 +1,22 @@
+package com.example.streams;
+
+/**
+ * The classes a {@link CharClassifier} sorts characters into
+ */
+public enum CharClass {
+  VOWEL,
+  /** Any letter that is not a vowel */
+  CONSONANT,
+  DIGIT,
+  WHITESPACE,
+  /** Punctuation and symbols: everything printable that is neither a letter nor a digit */
+  PUNCTUATION,
+  /** Control, format, unassigned, private use and surrogate characters, and combining marks */
+  OTHER;
+
+  private static final CharClass[] VALUES = values();
+
+  static CharClass of(int ordinal) {
+    return VALUES[ordinal];
+  }
+}
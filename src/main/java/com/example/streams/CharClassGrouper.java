@@ -0,0 +1,73 @@
+package com.example.streams;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Groups the characters of a text by {@link CharClass} in one pass, for text given whole or in
+ * chunks ({@link #accept(CharSequence)}).
+ *
+ * <p>Counts are always kept, in one {@code long} per class. The characters themselves are kept
+ * only on request, in one growable {@code char[]} per class, lower-cased; so grouping a text
+ * costs at most two bytes per character instead of a boxed {@code Character} in a list.
+ */
+public final class CharClassGrouper {
+
+  private static final CharClass[] CLASSES = CharClass.values();
+
+  private final CharClassifier classifier;
+  private final long[] counts = new long[CLASSES.length];
+  private final char[][] characters;
+  private final int[] lengths;
+
+  public CharClassGrouper() {
+    this(CharClassTable.current(), false);
+  }
+
+  public CharClassGrouper(CharClassifier classifier, boolean keepCharacters) {
+    this.classifier = classifier;
+    this.characters = keepCharacters ? new char[CLASSES.length][16] : null;
+    this.lengths = keepCharacters ? new int[CLASSES.length] : null;
+  }
+
+  /**
+   * Counts per class of the text, with the {@linkplain CharClassTable#current() current} table
+   */
+  public static CharClassGroups count(CharSequence text) {
+    return new CharClassGrouper().accept(text).finish();
+  }
+
+  /**
+   * Group the chunk's characters; a {@link CharBuffer}'s position is left untouched
+   */
+  public CharClassGrouper accept(CharSequence chunk) {
+    int length = chunk.length();
+    if (characters == null) {
+      for (int i = 0; i < length; i++) {
+        counts[classifier.classify(chunk.charAt(i)).ordinal()]++;
+      }
+      return this;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = chunk.charAt(i);
+      int group = classifier.classify(c).ordinal();
+      counts[group]++;
+      if (lengths[group] == characters[group].length) {
+        characters[group] = Arrays.copyOf(characters[group], lengths[group] * 2);
+      }
+      characters[group][lengths[group]++] = Character.toLowerCase(c);
+    }
+    return this;
+  }
+
+  /**
+   * The groups so far; the grouper may keep accepting text, the result does not change
+   */
+  public CharClassGroups finish() {
+    if (characters == null) {
+      return new CharClassGroups(counts.clone(), null, null);
+    }
+    // later chars only go past the current lengths or into new arrays: share, don't copy
+    return new CharClassGroups(counts.clone(), characters.clone(), lengths.clone());
+  }
+}
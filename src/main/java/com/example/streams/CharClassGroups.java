@@ -0,0 +1,97 @@
+package com.example.streams;
+
+import java.nio.CharBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Characters of a text grouped by {@link CharClass}, as produced by {@link CharClassGrouper}:
+ * a count per class and, when the grouper kept them, the lower-cased characters of each class
+ * in text order.
+ *
+ * <p>The characters are stored as one {@code char[]} per class; {@link #characters} and
+ * {@link #characterList} are views over it, boxing a {@code Character} only when an element is
+ * read.
+ */
+public final class CharClassGroups {
+
+  private final long[] counts;
+  private final char[][] characters;
+  private final int[] lengths;
+
+  CharClassGroups(long[] counts, char[][] characters, int[] lengths) {
+    this.counts = counts;
+    this.characters = characters;
+    this.lengths = lengths;
+  }
+
+  public long count(CharClass charClass) {
+    return counts[charClass.ordinal()];
+  }
+
+  public long total() {
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    return total;
+  }
+
+  /**
+   * Whether the grouper kept the characters, not just the counts
+   */
+  public boolean hasCharacters() {
+    return characters != null;
+  }
+
+  /**
+   * Read-only view of the class's characters
+   *
+   * @throws IllegalStateException if the grouper did not keep the characters
+   */
+  public CharSequence characters(CharClass charClass) {
+    return CharBuffer.wrap(kept(charClass), 0, lengths[charClass.ordinal()]).asReadOnlyBuffer();
+  }
+
+  /**
+   * Unmodifiable list view of the class's characters
+   *
+   * @throws IllegalStateException if the grouper did not keep the characters
+   */
+  public List<Character> characterList(CharClass charClass) {
+    char[] chars = kept(charClass);
+    int size = lengths[charClass.ordinal()];
+    return new AbstractList<>() {
+      @Override
+      public Character get(int index) {
+        Objects.checkIndex(index, size);
+        return chars[index];
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  private char[] kept(CharClass charClass) {
+    if (characters == null) {
+      throw new IllegalStateException("characters were not kept, only counts");
+    }
+    return characters[charClass.ordinal()];
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder("{");
+    for (CharClass charClass : CharClass.values()) {
+      if (text.length() > 1) {
+        text.append(", ");
+      }
+      text.append(charClass).append('=').append(count(charClass));
+    }
+    return text.append('}').toString();
+  }
+}
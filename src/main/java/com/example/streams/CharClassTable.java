@@ -0,0 +1,136 @@
+package com.example.streams;
+
+import java.util.Objects;
+
+/**
+ * Character classes of every {@code char}, precomputed as bit flags: one array read answers
+ * "is this a vowel", "a letter", "a digit", ... in place of a scan such as
+ * {@code "aeiou".indexOf(c)}.
+ *
+ * <p>Which letters are vowels is configurable, so that e.g. accented vowels count as vowels;
+ * vowels match in either case. Every other letter is a consonant; the remaining classes
+ * follow the Unicode general category, as described on {@link CharClass}.
+ *
+ * <p>The counting and filtering methods of {@link StreamExamples}, {@link BatchTextAnalyzer},
+ * {@link CharClassGrouper} and the reactive processor use the {@link #current()} table.
+ * It starts as {@link #ENGLISH}, or as the vowels of the {@value #VOWELS_PROPERTY} system
+ * property when set, and can be switched at runtime with {@link #use}. A computation reads the
+ * current table once when it starts, so a switch never mixes two tables within one result.
+ */
+public final class CharClassTable implements CharClassifier {
+
+  public static final int LETTER = 1;
+  public static final int VOWEL = 1 << 1;
+  public static final int CONSONANT = 1 << 2;
+  public static final int DIGIT = 1 << 3;
+  public static final int WHITESPACE = 1 << 4;
+  public static final int PUNCTUATION = 1 << 5;
+
+  /**
+   * System property holding the vowels of the initial {@link #current()} table
+   */
+  public static final String VOWELS_PROPERTY = "charclass.vowels";
+
+  public static final CharClassTable ENGLISH = withVowels("aeiou");
+
+  /**
+   * The English vowels plus their accented forms in Western European languages
+   */
+  public static final CharClassTable LATIN = withVowels("aeiouàáâãäåæèéêëìíîïòóôõöøœùúûüýÿ");
+
+  private static volatile CharClassTable current = initial();
+
+  private final String vowels;
+  private final byte[] flags = new byte[Character.MAX_VALUE + 1];
+
+  private CharClassTable(String vowels) {
+    this.vowels = vowels;
+    for (int c = 0; c <= Character.MAX_VALUE; c++) {
+      flags[c] = (byte) compute((char) c);
+    }
+  }
+
+  /**
+   * A table where the given characters, in either case, are the vowels
+   */
+  public static CharClassTable withVowels(String vowels) {
+    return new CharClassTable(Objects.requireNonNull(vowels, "vowels"));
+  }
+
+  public static CharClassTable current() {
+    return current;
+  }
+
+  /**
+   * Switch the table used from now on; computations already running keep theirs
+   */
+  public static void use(CharClassTable table) {
+    current = Objects.requireNonNull(table, "table");
+  }
+
+  private static CharClassTable initial() {
+    String vowels = System.getProperty(VOWELS_PROPERTY);
+    return vowels == null || vowels.isEmpty() ? ENGLISH : withVowels(vowels);
+  }
+
+  public String vowels() {
+    return vowels;
+  }
+
+  /**
+   * All the flags of the character
+   */
+  public int flags(char c) {
+    return flags[c];
+  }
+
+  /**
+   * Whether the character has any of the flags
+   */
+  public boolean is(char c, int mask) {
+    return (flags[c] & mask) != 0;
+  }
+
+  public boolean isVowel(char c) {
+    return (flags[c] & VOWEL) != 0;
+  }
+
+  public boolean isConsonant(char c) {
+    return (flags[c] & CONSONANT) != 0;
+  }
+
+  public boolean isLetter(char c) {
+    return (flags[c] & LETTER) != 0;
+  }
+
+  @Override
+  public CharClass classify(char c) {
+    // the class flags follow the CharClass order, from bit 1 on
+    int flag = flags[c] & ~LETTER;
+    return flag == 0 ? CharClass.OTHER : CharClass.of(Integer.numberOfTrailingZeros(flag) - 1);
+  }
+
+  private int compute(char c) {
+    if (Character.isLetter(c)) {
+      boolean vowel = vowels.indexOf(Character.toLowerCase(c)) >= 0 || vowels.indexOf(Character.toUpperCase(c)) >= 0;
+      return LETTER | (vowel ? VOWEL : CONSONANT);
+    }
+    if (Character.isDigit(c)) {
+      return DIGIT;
+    }
+    if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+      return WHITESPACE;
+    }
+    return switch (Character.getType(c)) {
+      case Character.CONTROL, Character.FORMAT, Character.UNASSIGNED, Character.SURROGATE,
+           Character.PRIVATE_USE, Character.NON_SPACING_MARK, Character.ENCLOSING_MARK,
+           Character.COMBINING_SPACING_MARK -> 0;
+      default -> PUNCTUATION;
+    };
+  }
+
+  @Override
+  public String toString() {
+    return "CharClassTable[vowels=" + vowels + "]";
+  }
+}
@@ -0,0 +1,11 @@
+package com.example.streams;
+
+/**
+ * Sorts characters into {@link CharClass}es; called once per character, so implementations
+ * should be a lookup, like {@link CharClassTable}
+ */
+@FunctionalInterface
+public interface CharClassifier {
+
+  CharClass classify(char c);
+}
@@ -0,0 +1,173 @@
+package com.example.streams;
+
+import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Code point frequencies of a text, so that supplementary characters (emoji, historic
+ * scripts, ...) are counted once rather than as two surrogate halves.
+ *
+ * <p>Counts live in three tiers: a dense table for Latin-1, checked first since most text is
+ * mostly Latin-1; dense 256-entry pages for the rest of the BMP, allocated on first use; and
+ * an open-addressing hash table for supplementary code points. {@code String}'s Latin-1 coder
+ * is not public API, so the fast path is a per-character range check instead of a per-string
+ * flag; for Latin-1 text it is the only branch taken.
+ *
+ * <p>Case folding is applied to the keys once, when the map is built, using the
+ * locale-independent simple folding {@link #foldCase(int)}.
+ *
+ * <p>For text arriving in chunks ({@link #accept(CharSequence)}), a surrogate pair may span
+ * chunk boundaries: a trailing high surrogate is held until the next chunk. Unpaired
+ * surrogates are counted as code points of their own, like {@link Character#codePointAt}.
+ */
+public final class CodePointFrequencies {
+
+  private static final int LATIN1_SIZE = 256;
+  private static final int PAGE_BITS = 8;
+  private static final int PAGE_SIZE = 1 << PAGE_BITS;
+  private static final int NO_PENDING = -1;
+
+  private final boolean foldCase;
+  private final long[] latin1 = new long[LATIN1_SIZE];
+  private final long[][] bmpPages = new long[(Character.MAX_VALUE + 1) >>> PAGE_BITS][];
+  private int[] supplementaryKeys = new int[16];
+  private long[] supplementaryCounts = new long[16];
+  private int supplementarySize;
+  private int pendingHighSurrogate = NO_PENDING;
+
+  public CodePointFrequencies() {
+    this(false);
+  }
+
+  public CodePointFrequencies(boolean foldCase) {
+    this.foldCase = foldCase;
+  }
+
+  public static Map<Integer, Long> count(CharSequence text) {
+    return count(text, false);
+  }
+
+  public static Map<Integer, Long> count(CharSequence text, boolean foldCase) {
+    return new CodePointFrequencies(foldCase).accept(text).finish();
+  }
+
+  /**
+   * Simple, locale-independent case folding: maps e.g. 'A', 'ſ' (long s) and 'ς' (final
+   * sigma) to the same key as their lower case forms, unlike {@link Character#toLowerCase}
+   */
+  public static int foldCase(int codePoint) {
+    return Character.toLowerCase(Character.toUpperCase(codePoint));
+  }
+
+  /**
+   * Count the chunk's characters; a {@link CharBuffer}'s position is left untouched
+   */
+  public CodePointFrequencies accept(CharSequence chunk) {
+    int length = chunk.length();
+    int i = 0;
+    if (pendingHighSurrogate != NO_PENDING && length > 0) {
+      char first = chunk.charAt(0);
+      if (Character.isLowSurrogate(first)) {
+        addSupplementary(Character.toCodePoint((char) pendingHighSurrogate, first));
+        i = 1;
+      } else {
+        addBmp(pendingHighSurrogate);
+      }
+      pendingHighSurrogate = NO_PENDING;
+    }
+    for (; i < length; i++) {
+      char c = chunk.charAt(i);
+      if (c < LATIN1_SIZE) {
+        latin1[c]++;
+      } else if (!Character.isHighSurrogate(c)) {
+        addBmp(c);
+      } else if (i + 1 == length) {
+        pendingHighSurrogate = c;
+      } else if (Character.isLowSurrogate(chunk.charAt(i + 1))) {
+        addSupplementary(Character.toCodePoint(c, chunk.charAt(++i)));
+      } else {
+        addBmp(c);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Count a dangling high surrogate, if any, and return the frequencies keyed by code point
+   */
+  public Map<Integer, Long> finish() {
+    if (pendingHighSurrogate != NO_PENDING) {
+      addBmp(pendingHighSurrogate);
+      pendingHighSurrogate = NO_PENDING;
+    }
+    Map<Integer, Long> frequencies = new HashMap<>();
+    for (int c = 0; c < LATIN1_SIZE; c++) {
+      put(frequencies, c, latin1[c]);
+    }
+    for (int page = 0; page < bmpPages.length; page++) {
+      long[] counts = bmpPages[page];
+      if (counts != null) {
+        for (int offset = 0; offset < PAGE_SIZE; offset++) {
+          put(frequencies, (page << PAGE_BITS) | offset, counts[offset]);
+        }
+      }
+    }
+    for (int slot = 0; slot < supplementaryKeys.length; slot++) {
+      put(frequencies, supplementaryKeys[slot], supplementaryCounts[slot]);
+    }
+    return frequencies;
+  }
+
+  private void put(Map<Integer, Long> frequencies, int codePoint, long count) {
+    if (count > 0) {
+      frequencies.merge(foldCase ? foldCase(codePoint) : codePoint, count, Long::sum);
+    }
+  }
+
+  private void addBmp(int c) {
+    long[] counts = bmpPages[c >>> PAGE_BITS];
+    if (counts == null) {
+      counts = new long[PAGE_SIZE];
+      bmpPages[c >>> PAGE_BITS] = counts;
+    }
+    counts[c & (PAGE_SIZE - 1)]++;
+  }
+
+  // supplementary code points are never 0, so 0 marks an empty slot
+  private void addSupplementary(int codePoint) {
+    int slot = indexOf(supplementaryKeys, codePoint);
+    if (supplementaryKeys[slot] == 0) {
+      if (++supplementarySize * 2 > supplementaryKeys.length) {
+        grow();
+        slot = indexOf(supplementaryKeys, codePoint);
+      }
+      supplementaryKeys[slot] = codePoint;
+    }
+    supplementaryCounts[slot]++;
+  }
+
+  private static int indexOf(int[] keys, int codePoint) {
+    int mask = keys.length - 1;
+    int hash = codePoint * 0x9E3779B9;
+    int slot = (hash ^ hash >>> 16) & mask;
+    while (keys[slot] != 0 && keys[slot] != codePoint) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void grow() {
+    int[] oldKeys = supplementaryKeys;
+    long[] oldCounts = supplementaryCounts;
+    supplementaryKeys = new int[oldKeys.length * 2];
+    supplementaryCounts = new long[oldKeys.length * 2];
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != 0) {
+        int slot = indexOf(supplementaryKeys, oldKeys[i]);
+        supplementaryKeys[slot] = oldKeys[i];
+        supplementaryCounts[slot] = oldCounts[i];
+      }
+    }
+  }
+}
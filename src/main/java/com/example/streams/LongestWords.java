@@ -0,0 +1,116 @@
+package com.example.streams;
+
+import com.example.functional.IntList;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Single-pass search for the longest words of a text, ties included, in order of appearance.
+ *
+ * <p>For a whole {@code CharSequence} only the start offsets of the current winners are
+ * tracked; strings are created once, for the final winners. For text arriving in chunks
+ * ({@link #accept(CharBuffer)}), a word may span chunk boundaries: its head is carried over
+ * to the next chunk. Since a chunk buffer may be reused once handed over, a word is copied
+ * out as soon as it ties or beats the current best, never otherwise.
+ *
+ * <p>A word is a maximal run of characters that are not separators; by default separators
+ * are whitespace.
+ */
+public final class LongestWords {
+
+  private final IntPredicate separator;
+  private final StringBuilder carry = new StringBuilder();
+  private final List<String> winners = new ArrayList<>();
+  private int bestLength;
+
+  public LongestWords() {
+    this(Character::isWhitespace);
+  }
+
+  public LongestWords(IntPredicate separator) {
+    this.separator = separator;
+  }
+
+  public static List<String> find(CharSequence text) {
+    return find(text, Character::isWhitespace);
+  }
+
+  public static List<String> find(CharSequence text, IntPredicate separator) {
+    IntList starts = new IntList(4);
+    int bestLength = 0;
+    int start = -1;
+    for (int i = 0; i <= text.length(); i++) {
+      boolean inWord = i < text.length() && !separator.test(text.charAt(i));
+      if (inWord && start < 0) {
+        start = i;
+      } else if (!inWord && start >= 0) {
+        int length = i - start;
+        if (length > bestLength) {
+          bestLength = length;
+          starts = new IntList(4);
+        }
+        if (length == bestLength) {
+          starts.add(start);
+        }
+        start = -1;
+      }
+    }
+    List<String> words = new ArrayList<>(starts.size());
+    for (int i = 0; i < starts.size(); i++) {
+      words.add(text.subSequence(starts.get(i), starts.get(i) + bestLength).toString());
+    }
+    return words;
+  }
+
+  /**
+   * Scan the chunk's remaining characters; the buffer's position is left untouched
+   */
+  public LongestWords accept(CharBuffer chunk) {
+    int start = -1;
+    for (int i = 0; i < chunk.length(); i++) {
+      if (!separator.test(chunk.charAt(i))) {
+        if (start < 0) {
+          start = i;
+        }
+      } else if (start >= 0) {
+        closeWord(chunk, start, i);
+        start = -1;
+      } else if (!carry.isEmpty()) {
+        // the carried word ended exactly at the previous chunk boundary
+        closeWord(chunk, 0, 0);
+      }
+    }
+    if (start >= 0) {
+      carry.append(chunk, start, chunk.length());
+    }
+    return this;
+  }
+
+  /**
+   * Close the last word and return the winners
+   */
+  public List<String> finish() {
+    if (!carry.isEmpty()) {
+      closeWord("", 0, 0);
+    }
+    return List.copyOf(winners);
+  }
+
+  private void closeWord(CharSequence chunk, int start, int end) {
+    int length = carry.length() + end - start;
+    if (length >= bestLength) {
+      String word = carry.isEmpty()
+                    ? chunk.subSequence(start, end).toString()
+                    : carry.append(chunk, start, end).toString();
+      if (length > bestLength) {
+        bestLength = length;
+        winners.clear();
+      }
+      winners.add(word);
+    }
+    carry.setLength(0);
+  }
+}
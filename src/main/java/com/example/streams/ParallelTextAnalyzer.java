@@ -0,0 +1,268 @@
+package com.example.streams;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Fork/join versions of the {@link StreamExamples} frequency and word-count methods.
+ *
+ * <p>The text is split in halves until a piece is shorter than the split threshold.
+ * Splits are moved to the next word boundary so no word is cut in two, and never
+ * separate a surrogate pair. Leaves count characters into primitive arrays that are
+ * merged by array addition; boxed maps are only built once, for the final result.
+ * Idle workers steal the pending halves, so uneven pieces still balance out.
+ */
+public class ParallelTextAnalyzer {
+
+  public static final int DEFAULT_SPLIT_THRESHOLD = 1 << 16;
+
+  private final ForkJoinPool pool;
+  private final int splitThreshold;
+
+  public ParallelTextAnalyzer() {
+    this(ForkJoinPool.commonPool(), DEFAULT_SPLIT_THRESHOLD);
+  }
+
+  public ParallelTextAnalyzer(ForkJoinPool pool, int splitThreshold) {
+    if (splitThreshold <= 0) {
+      throw new IllegalArgumentException("splitThreshold must be > 0");
+    }
+    this.pool = Objects.requireNonNull(pool, "pool");
+    this.splitThreshold = splitThreshold;
+  }
+
+  /**
+   * Same result as {@link StreamExamples#getCharacterFrequencies(String)}:
+   * lower-cased, spaces ignored
+   */
+  public Map<Character, Long> getCharacterFrequencies(CharSequence input) {
+    CharCounts counts = invoke(input, CharCounts::count, CharCounts::merge);
+    Map<Character, Long> frequencies = new HashMap<>();
+    counts.forEach((c, n) -> {
+      if (c != ' ') {
+        frequencies.merge(Character.toLowerCase(c), n, Long::sum);
+      }
+    });
+    return frequencies;
+  }
+
+  /**
+   * Number of words, using the {@code \W+} word definition of {@link StreamExamples}
+   */
+  public long countWords(CharSequence input) {
+    return invoke(input, ParallelTextAnalyzer::countWords, Long::sum);
+  }
+
+  /**
+   * Lower-cased word frequencies, using the {@code \W+} word definition of {@link StreamExamples}
+   */
+  public Map<String, Long> getWordFrequencies(CharSequence input) {
+    Map<String, long[]> counts = invoke(input, ParallelTextAnalyzer::countWordFrequencies,
+                                        ParallelTextAnalyzer::mergeWordFrequencies);
+    Map<String, Long> frequencies = new HashMap<>(counts.size() * 2);
+    counts.forEach((word, n) -> frequencies.put(word, n[0]));
+    return frequencies;
+  }
+
+  /**
+   * Same result as {@link StreamExamples#findMostCommonWord(String)}, ties resolved alphabetically
+   */
+  public Optional<String> findMostCommonWord(CharSequence input) {
+    return getWordFrequencies(input).entrySet()
+                                    .stream()
+                                    .max(Map.Entry.<String, Long>comparingByValue()
+                                                  .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                                    .map(Map.Entry::getKey);
+  }
+
+  private <R> R invoke(CharSequence input, Leaf<R> leaf, BinaryOperator<R> merge) {
+    return pool.invoke(new SplittingTask<>(input, 0, input.length(), splitThreshold, leaf, merge));
+  }
+
+  static boolean isWordChar(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+  }
+
+  /**
+   * First index at or after {@code index} where the text can be cut without splitting
+   * a word or a surrogate pair, or {@code hi} when there is none
+   */
+  static int safeSplit(CharSequence input, int index, int hi) {
+    while (index < hi) {
+      char before = input.charAt(index - 1);
+      char after = input.charAt(index);
+      boolean insideWord = isWordChar(before) && isWordChar(after);
+      boolean insidePair = Character.isHighSurrogate(before) && Character.isLowSurrogate(after);
+      if (!insideWord && !insidePair) {
+        return index;
+      }
+      index++;
+    }
+    return hi;
+  }
+
+  private static long countWords(CharSequence input, int lo, int hi) {
+    long words = 0;
+    boolean inWord = false;
+    for (int i = lo; i < hi; i++) {
+      boolean wordChar = isWordChar(input.charAt(i));
+      if (wordChar && !inWord) {
+        words++;
+      }
+      inWord = wordChar;
+    }
+    return words;
+  }
+
+  private static Map<String, long[]> countWordFrequencies(CharSequence input, int lo, int hi) {
+    Map<String, long[]> counts = new HashMap<>();
+    int start = -1;
+    for (int i = lo; i <= hi; i++) {
+      boolean wordChar = i < hi && isWordChar(input.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        String word = input.subSequence(start, i).toString().toLowerCase();
+        counts.computeIfAbsent(word, w -> new long[1])[0]++;
+        start = -1;
+      }
+    }
+    return counts;
+  }
+
+  private static Map<String, long[]> mergeWordFrequencies(Map<String, long[]> left, Map<String, long[]> right) {
+    Map<String, long[]> into = left.size() >= right.size() ? left : right;
+    Map<String, long[]> from = into == left ? right : left;
+    from.forEach((word, n) -> {
+      long[] existing = into.putIfAbsent(word, n);
+      if (existing != null) {
+        existing[0] += n[0];
+      }
+    });
+    return into;
+  }
+
+  @FunctionalInterface
+  private interface Leaf<R> {
+    R compute(CharSequence input, int lo, int hi);
+  }
+
+  private static final class SplittingTask<R> extends RecursiveTask<R> {
+    private final CharSequence input;
+    private final int lo;
+    private final int hi;
+    private final int threshold;
+    private final Leaf<R> leaf;
+    private final BinaryOperator<R> merge;
+
+    private SplittingTask(CharSequence input, int lo, int hi, int threshold, Leaf<R> leaf, BinaryOperator<R> merge) {
+      this.input = input;
+      this.lo = lo;
+      this.hi = hi;
+      this.threshold = threshold;
+      this.leaf = leaf;
+      this.merge = merge;
+    }
+
+    @Override
+    protected R compute() {
+      int mid = hi - lo <= threshold ? hi : safeSplit(input, lo + (hi - lo) / 2, hi);
+      if (mid >= hi) {
+        return leaf.compute(input, lo, hi);
+      }
+      SplittingTask<R> right = new SplittingTask<>(input, mid, hi, threshold, leaf, merge);
+      right.fork();
+      R left = new SplittingTask<>(input, lo, mid, threshold, leaf, merge).compute();
+      return merge.apply(left, right.join());
+    }
+  }
+
+  /**
+   * Raw char counts: a dense table for Latin-1, and for the rest of the BMP 256-entry pages per
+   * high byte, allocated on first use, so a leaf costs about the size of the alphabet it sees
+   */
+  private static final class CharCounts {
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+
+    private final long[] latin1 = new long[PAGE_SIZE];
+    private long[][] pages;
+
+    private static CharCounts count(CharSequence input, int lo, int hi) {
+      CharCounts counts = new CharCounts();
+      for (int i = lo; i < hi; i++) {
+        char c = input.charAt(i);
+        if (c < PAGE_SIZE) {
+          counts.latin1[c]++;
+        } else {
+          counts.page(c >>> PAGE_BITS)[c & (PAGE_SIZE - 1)]++;
+        }
+      }
+      return counts;
+    }
+
+    private static CharCounts merge(CharCounts left, CharCounts right) {
+      for (int c = 0; c < PAGE_SIZE; c++) {
+        left.latin1[c] += right.latin1[c];
+      }
+      if (right.pages == null) {
+        return left;
+      }
+      if (left.pages == null) {
+        left.pages = right.pages;
+        return left;
+      }
+      for (int page = 1; page < PAGE_SIZE; page++) {
+        long[] counts = right.pages[page];
+        if (counts == null) {
+          continue;
+        }
+        if (left.pages[page] == null) {
+          left.pages[page] = counts;
+        } else {
+          for (int offset = 0; offset < PAGE_SIZE; offset++) {
+            left.pages[page][offset] += counts[offset];
+          }
+        }
+      }
+      return left;
+    }
+
+    private long[] page(int page) {
+      if (pages == null) {
+        pages = new long[PAGE_SIZE][];
+      }
+      if (pages[page] == null) {
+        pages[page] = new long[PAGE_SIZE];
+      }
+      return pages[page];
+    }
+
+    private void forEach(CharCountConsumer action) {
+      for (int c = 0; c < PAGE_SIZE; c++) {
+        if (latin1[c] > 0) {
+          action.accept((char) c, latin1[c]);
+        }
+      }
+      if (pages == null) {
+        return;
+      }
+      for (int page = 1; page < PAGE_SIZE; page++) {
+        if (pages[page] != null) {
+          for (int offset = 0; offset < PAGE_SIZE; offset++) {
+            if (pages[page][offset] > 0) {
+              action.accept((char) (page << PAGE_BITS | offset), pages[page][offset]);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface CharCountConsumer {
+    void accept(char c, long count);
+  }
+}
@@ -1,5 +1,7 @@
 package com.example.streams;
 
+import com.example.sketch.CardinalityEstimator;
+
 import java.util.*;
 
 import static java.util.stream.Collectors.counting;
@@ -99,37 +101,38 @@ public class StreamExamples {
                 .collect(groupingBy(character -> character, counting()));
   }
 
+  /**
+   * Get a frequency map of all code points in the string, case folded. Unlike
+   * {@link #getCharacterFrequencies(String)}, a supplementary character such as an emoji
+   * counts once under its code point instead of as two surrogate halves.
+   */
+  public Map<Integer, Long> getCodePointFrequencies(String input) {
+    return CodePointFrequencies.count(input, true);
+  }
+
   /**
    * Find the longest word in a sentence
    */
   public Optional<String> findLongestWord(String sentence) {
-    return Arrays.stream(sentence.split(" "))
-                 .max(Comparator.comparingInt(String::length));
+    return LongestWords.find(sentence, c -> c == ' ')
+                       .stream()
+                       .findFirst();
   }
 
   /**
    * Find all words with maximum length in a sentence
    */
   public List<String> findAllLongestWords(String sentence) {
-    String[] words = sentence.split(" ");
-    int maxLength = Arrays.stream(words)
-                          .mapToInt(String::length)
-                          .max()
-                          .orElse(0);
-
-    return Arrays.stream(words)
-                 .filter(word -> word.length() == maxLength)
-                 .toList();
+    return LongestWords.find(sentence, c -> c == ' ');
   }
 
   /**
-   * Count vowels in a string (case-insensitive)
+   * Count vowels in a string (case-insensitive), as defined by the current {@link CharClassTable}
    */
   public long countVowels(String input) {
+    CharClassTable table = CharClassTable.current();
     return input.chars()
-                .mapToObj(c -> (char) c)
-                .map(Character::toLowerCase)
-                .filter(c -> "aeiou".indexOf(c) >= 0)
+                .filter(c -> table.isVowel((char) c))
                 .count();
   }
 
@@ -164,6 +167,16 @@ public class StreamExamples {
                 .toList();
   }
 
+  /**
+   * Count the unique characters of a string without keeping them in order;
+   * exact for small inputs, HyperLogLog-approximate for very large ones
+   */
+  public long estimateUniqueCharacterCount(CharSequence input) {
+    return input.chars()
+                .mapToObj(c -> (char) c)
+                .collect(CardinalityEstimator.counting());
+  }
+
   /**
    * Check if string is a palindrome (ignoring spaces and case)
    */
@@ -180,13 +193,27 @@ public class StreamExamples {
   }
 
   /**
-   * Count consonants in a string (case-insensitive)
+   * Count consonants in a string (case-insensitive): letters that are not vowels
    */
   public long countConsonants(String input) {
+    CharClassTable table = CharClassTable.current();
     return input.chars()
-                .mapToObj(c -> (char) c)
-                .map(Character::toLowerCase)
-                .filter(c -> Character.isLetter(c) && "aeiou".indexOf(c) < 0)
+                .filter(c -> table.isConsonant((char) c))
                 .count();
   }
-}
\ No newline at end of file
+
+  /**
+   * Count the characters of each class: vowel, consonant, digit, whitespace, punctuation
+   */
+  public CharClassGroups groupByCharacterClass(String input) {
+    return CharClassGrouper.count(input);
+  }
+
+  /**
+   * Analyze many documents in one call: word, vowel, consonant and character counts
+   * per document, in columnar form, computed in parallel
+   */
+  public BatchTextStats analyzeDocuments(List<String> documents) {
+    return new BatchTextAnalyzer().analyze(documents);
+  }
+}
@@ -2,15 +2,32 @@ package com.example.streams.employee;
 
 import lombok.NonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * @param name Getters
+ * @param department always the canonical instance from {@link StringPool#departments()}
+ * @param skills immutable; stored as a compact {@link SkillSet} of interned skill ids
  */
 public record Employee(String name, String department, int salary, List<String> skills) {
+  public Employee {
+    department = StringPool.departments().intern(department);
+    skills = SkillSet.of(skills);
+  }
+
   public Employee(String name, String department, int salary) {
-    this(name, department, salary, new ArrayList<>());
+    this(name, department, salary, SkillSet.EMPTY);
+  }
+
+  /**
+   * Also canonicalize the name, for datasets where the same names repeat a lot
+   */
+  public static Employee interned(String name, String department, int salary, List<String> skills) {
+    return new Employee(StringPool.names().intern(name), department, salary, skills);
+  }
+
+  public SkillSet skillSet() {
+    return (SkillSet) skills;
   }
 
   @Override
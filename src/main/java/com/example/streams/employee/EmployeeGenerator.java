@@ -0,0 +1,230 @@
+package com.example.streams.employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic synthetic {@link Employee} data for load tests.
+ *
+ * <p>Employee {@code i} depends only on the seed and {@code i}, so the same seed always
+ * yields the same dataset, sequentially or in parallel. Departments and skills follow a
+ * Zipf distribution: with a skew of 1.0 the largest department is about twice the second
+ * and ten times the tenth, like real organisations. Skills follow their own skew over their
+ * own vocabulary, drawn without replacement so an employee never lists a skill twice.
+ */
+public final class EmployeeGenerator {
+
+  private static final String[] DEPARTMENTS = {
+          "Engineering", "Sales", "Support", "Marketing", "Operations", "Finance",
+          "HR", "Legal", "Research", "Design", "Security", "Procurement"
+  };
+  private static final String[] FIRST_NAMES = {
+          "Alice", "Bob", "Charlie", "Diana", "Eve", "Frank", "Grace", "Heidi", "Ivan", "Judy",
+          "Mallory", "Niaj", "Olivia", "Peggy", "Rupert", "Sybil", "Trent", "Victor", "Walter", "Yara"
+  };
+  private static final String[] LAST_NAMES = {
+          "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+          "Rodriguez", "Martinez", "Silva", "Santos", "Costa", "Martins", "Pereira", "Ferreira"
+  };
+  private static final String[] SKILLS = {
+          "Java", "Python", "SQL", "AWS", "Docker", "Kubernetes", "Excel", "Salesforce",
+          "Go", "Rust", "Kotlin", "React", "Terraform", "Spark", "Kafka", "Negotiation"
+  };
+
+  private final long seed;
+  private final int departmentCount;
+  private final double departmentSkew;
+  private final SalaryDistribution salaries;
+  private final int minSkills;
+  private final int maxSkills;
+  private final int skillVocabulary;
+  private final double skillSkew;
+  private final double[] departmentCdf;
+  private final double[] skillCdf;
+  private final double[] skillWeights;
+
+  /**
+   * @param seed            makes runs reproducible
+   * @param departmentCount number of distinct departments
+   * @param departmentSkew  Zipf exponent for department sizes, 0 for uniform
+   * @param salaries        salary distribution
+   * @param minSkills       fewest skills per employee
+   * @param maxSkills       most skills per employee, at most {@code skillVocabulary}
+   * @param skillVocabulary number of distinct skills
+   * @param skillSkew       Zipf exponent for skill popularity, 0 for uniform
+   */
+  public EmployeeGenerator(long seed,
+                           int departmentCount,
+                           double departmentSkew,
+                           SalaryDistribution salaries,
+                           int minSkills,
+                           int maxSkills,
+                           int skillVocabulary,
+                           double skillSkew) {
+    if (departmentCount <= 0 || skillVocabulary <= 0) {
+      throw new IllegalArgumentException("departmentCount and skillVocabulary must be > 0");
+    }
+    if (departmentSkew < 0 || skillSkew < 0) {
+      throw new IllegalArgumentException("departmentSkew and skillSkew must be >= 0");
+    }
+    if (minSkills < 0 || maxSkills < minSkills) {
+      throw new IllegalArgumentException("Expected 0 <= minSkills <= maxSkills");
+    }
+    if (maxSkills > skillVocabulary) {
+      throw new IllegalArgumentException("maxSkills must be <= skillVocabulary");
+    }
+    if (salaries == null) {
+      throw new IllegalArgumentException("salaries is required");
+    }
+    this.seed = seed;
+    this.departmentCount = departmentCount;
+    this.departmentSkew = departmentSkew;
+    this.salaries = salaries;
+    this.minSkills = minSkills;
+    this.maxSkills = maxSkills;
+    this.skillVocabulary = skillVocabulary;
+    this.skillSkew = skillSkew;
+    this.departmentCdf = zipfCdf(departmentCount, departmentSkew);
+    this.skillCdf = zipfCdf(skillVocabulary, skillSkew);
+    this.skillWeights = zipfWeights(skillVocabulary, skillSkew);
+  }
+
+  /**
+   * 12 departments with Zipf(1.0) sizes, log-normal salaries around 60000, 0-8 skills out of 200
+   * with Zipf(1.0) popularity
+   */
+  public static EmployeeGenerator withSeed(long seed) {
+    return new EmployeeGenerator(seed, DEPARTMENTS.length, 1.0,
+                                 SalaryDistribution.logNormal(60_000, 0.4), 0, 8, 200, 1.0);
+  }
+
+  public EmployeeGenerator withDepartments(int departmentCount, double departmentSkew) {
+    return new EmployeeGenerator(seed, departmentCount, departmentSkew, salaries, minSkills, maxSkills, skillVocabulary,
+                                 skillSkew);
+  }
+
+  public EmployeeGenerator withSalaries(SalaryDistribution salaries) {
+    return new EmployeeGenerator(seed, departmentCount, departmentSkew, salaries, minSkills, maxSkills, skillVocabulary,
+                                 skillSkew);
+  }
+
+  public EmployeeGenerator withSkills(int minSkills, int maxSkills, int skillVocabulary) {
+    return withSkills(minSkills, maxSkills, skillVocabulary, skillSkew);
+  }
+
+  public EmployeeGenerator withSkills(int minSkills, int maxSkills, int skillVocabulary, double skillSkew) {
+    return new EmployeeGenerator(seed, departmentCount, departmentSkew, salaries, minSkills, maxSkills, skillVocabulary,
+                                 skillSkew);
+  }
+
+  /**
+   * The {@code index}-th employee of this dataset
+   */
+  public Employee employeeAt(long index) {
+    SplittableRandom random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+    String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    String department = departmentName(zipf(random, departmentCdf));
+    int salary = salaries.sample(random);
+    int skillCount = random.nextInt(minSkills, maxSkills + 1);
+    int[] ranks = new int[skillCount];
+    List<String> skills = new ArrayList<>(skillCount);
+    for (int i = 0; i < skillCount; i++) {
+      int rank = zipf(random, skillCdf);
+      if (contains(ranks, i, rank)) {
+        rank = unusedSkill(random, ranks, i);
+      }
+      ranks[i] = rank;
+      skills.add(skillName(rank));
+    }
+    return Employee.interned(name, department, salary, skills);
+  }
+
+  public List<Employee> generate(int count) {
+    return IntStream.range(0, count)
+                    .parallel()
+                    .mapToObj(this::employeeAt)
+                    .toList();
+  }
+
+  /**
+   * A lazy stream of {@code count} employees, for datasets too large to hold in memory
+   */
+  public Stream<Employee> stream(long count) {
+    return LongStream.range(0, count).mapToObj(this::employeeAt);
+  }
+
+  private static int zipf(SplittableRandom random, double[] cdf) {
+    int index = Arrays.binarySearch(cdf, random.nextDouble());
+    return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+  }
+
+  /**
+   * A skill rank outside the first {@code used} ranks, in proportion to its weight among the
+   * remaining ones. Redrawing from the CDF instead may never end under a high skew: the weight
+   * of a rare rank can be too small to move the cumulative sum at all.
+   */
+  private int unusedSkill(SplittableRandom random, int[] ranks, int used) {
+    double remaining = 0;
+    for (int rank = 0; rank < skillVocabulary; rank++) {
+      if (!contains(ranks, used, rank)) {
+        remaining += skillWeights[rank];
+      }
+    }
+    double target = random.nextDouble() * remaining;
+    int last = -1;
+    for (int rank = 0; rank < skillVocabulary; rank++) {
+      if (!contains(ranks, used, rank)) {
+        last = rank;
+        target -= skillWeights[rank];
+        if (target < 0) {
+          return rank;
+        }
+      }
+    }
+    // rounding left a little of the target: the last unused rank takes it
+    return last;
+  }
+
+  private static boolean contains(int[] ranks, int used, int rank) {
+    for (int i = 0; i < used; i++) {
+      if (ranks[i] == rank) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String departmentName(int rank) {
+    return rank < DEPARTMENTS.length ? DEPARTMENTS[rank] : "Department-" + rank;
+  }
+
+  private static String skillName(int rank) {
+    return rank < SKILLS.length ? SKILLS[rank] : "Skill-" + rank;
+  }
+
+  private static double[] zipfWeights(int size, double exponent) {
+    double[] weights = new double[size];
+    for (int rank = 0; rank < size; rank++) {
+      weights[rank] = 1 / Math.pow(rank + 1, exponent);
+    }
+    return weights;
+  }
+
+  private static double[] zipfCdf(int size, double exponent) {
+    double[] cdf = zipfWeights(size, exponent);
+    double total = 0;
+    for (int rank = 0; rank < size; rank++) {
+      total += cdf[rank];
+      cdf[rank] = total;
+    }
+    for (int rank = 0; rank < size; rank++) {
+      cdf[rank] /= total;
+    }
+    return cdf;
+  }
+}
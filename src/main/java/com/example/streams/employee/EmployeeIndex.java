@@ -0,0 +1,303 @@
+package com.example.streams.employee;
+
+import com.example.functional.IntList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only indexes over a list of employees, for running {@link EmployeeQuery} filters
+ * without a full pass per filter.
+ *
+ * <p>Every filter has an index that tells exactly how many rows it would read: a sorted salary
+ * column and a sorted name column (binary search for the range or prefix), and row lists per
+ * department and per skill. The planner reads the smallest of them and checks the remaining
+ * filters on each candidate, in the same pass. When even the best index would read more than a
+ * quarter of the rows, following row numbers is no cheaper than reading everything, so the plan
+ * falls back to a scan that checks the primitive salary column before touching any employee.
+ *
+ * <p>Results are in the order of the indexed list. {@link #explain} returns the plan without
+ * running it.
+ */
+public final class EmployeeIndex {
+
+  static final double SCAN_FRACTION = 0.25;
+
+  private final List<Employee> employees;
+  private final int[] salaries;
+  private final String[] departments;
+  private final int[] bySalary;
+  private final int[] sortedSalaries;
+  private final int[] byName;
+  private final String[] sortedNames;
+  private final Map<String, int[]> byDepartment;
+  private final int[][] bySkill;
+
+  private EmployeeIndex(List<Employee> employees) {
+    this.employees = List.copyOf(employees);
+    int size = this.employees.size();
+    salaries = new int[size];
+    departments = new String[size];
+    long[] salaryKeys = new long[size];
+    Map<String, IntList> departmentRows = new HashMap<>();
+    List<IntList> skillRows = new ArrayList<>();
+    for (int row = 0; row < size; row++) {
+      Employee employee = this.employees.get(row);
+      salaries[row] = employee.salary();
+      departments[row] = employee.department();
+      // salary in the high bits, row in the low bits: sorting the longs sorts rows by salary
+      salaryKeys[row] = (long) employee.salary() << 32 | row;
+      if (employee.department() != null) {
+        departmentRows.computeIfAbsent(employee.department(), d -> new IntList()).add(row);
+      }
+      int current = row;
+      employee.skillSet().forEachId(id -> {
+        while (skillRows.size() <= id) {
+          skillRows.add(null);
+        }
+        if (skillRows.get(id) == null) {
+          skillRows.set(id, new IntList());
+        }
+        skillRows.get(id).add(current);
+      });
+    }
+    Arrays.sort(salaryKeys);
+    bySalary = new int[size];
+    sortedSalaries = new int[size];
+    for (int i = 0; i < size; i++) {
+      bySalary[i] = (int) salaryKeys[i];
+      sortedSalaries[i] = (int) (salaryKeys[i] >> 32);
+    }
+    byName = IntStream.range(0, size)
+                      .boxed()
+                      .sorted(Comparator.comparing(row -> this.employees.get(row).name()))
+                      .mapToInt(Integer::intValue)
+                      .toArray();
+    sortedNames = new String[size];
+    for (int i = 0; i < size; i++) {
+      sortedNames[i] = this.employees.get(byName[i]).name();
+    }
+    byDepartment = new HashMap<>(departmentRows.size() * 2);
+    departmentRows.forEach((department, rows) -> byDepartment.put(department, rows.toArray()));
+    bySkill = new int[skillRows.size()][];
+    for (int id = 0; id < bySkill.length; id++) {
+      bySkill[id] = skillRows.get(id) == null ? new int[0] : skillRows.get(id).toArray();
+    }
+  }
+
+  /**
+   * Index the employees; later changes to the list are not seen by the index
+   */
+  public static EmployeeIndex of(List<Employee> employees) {
+    return new EmployeeIndex(employees);
+  }
+
+  public int size() {
+    return employees.size();
+  }
+
+  public QueryPlan explain(EmployeeQuery query) {
+    return plan(query).plan();
+  }
+
+  public List<Employee> execute(EmployeeQuery query) {
+    Planned planned = plan(query);
+    IntList matches = new IntList();
+    for (int i = planned.from(); i < planned.to(); i++) {
+      int row = planned.rows() == null ? i : planned.rows()[i];
+      if (planned.filter().test(row)) {
+        matches.add(row);
+      }
+    }
+    int[] rows = matches.toArray();
+    if (!planned.ordered()) {
+      Arrays.sort(rows);
+    }
+    List<Employee> result = new ArrayList<>(rows.length);
+    for (int row : rows) {
+      result.add(employees.get(row));
+    }
+    return result;
+  }
+
+  private Planned plan(EmployeeQuery query) {
+    int size = employees.size();
+    String department = null;
+    int[] departmentRows = null;
+    if (query.department() != null) {
+      departmentRows = byDepartment.get(query.department());
+      if (departmentRows == null) {
+        return empty("department = " + query.department());
+      }
+      department = departments[departmentRows[0]];
+    }
+    int[] skillIds = query.skills().stream().mapToInt(SkillDictionary.global()::find).toArray();
+    for (int i = 0; i < skillIds.length; i++) {
+      if (skillIds[i] < 0 || skillIds[i] >= bySkill.length || bySkill[skillIds[i]].length == 0) {
+        return empty("skill = " + query.skills().get(i));
+      }
+    }
+
+    List<Planned> paths = new ArrayList<>();
+    List<String> conditions = new ArrayList<>();
+    if (query.hasSalaryRange()) {
+      String condition = "salary between " + query.minSalary() + " and " + query.maxSalary();
+      int from = lowerBound(sortedSalaries, query.minSalary());
+      int to = Math.max(from, upperBound(sortedSalaries, query.maxSalary()));
+      paths.add(new Planned(QueryPlan.Access.SALARY_INDEX, condition, bySalary, from, to, false,
+                            new Filter(query, department, skillIds, QueryPlan.Access.SALARY_INDEX, -1)));
+      conditions.add(condition);
+    }
+    if (departmentRows != null) {
+      String condition = "department = " + query.department();
+      paths.add(new Planned(QueryPlan.Access.DEPARTMENT_INDEX, condition, departmentRows, 0, departmentRows.length,
+                            true, new Filter(query, department, skillIds, QueryPlan.Access.DEPARTMENT_INDEX, -1)));
+      conditions.add(condition);
+    }
+    for (int i = 0; i < skillIds.length; i++) {
+      String condition = "skill = " + query.skills().get(i);
+      int[] rows = bySkill[skillIds[i]];
+      paths.add(new Planned(QueryPlan.Access.SKILL_INDEX, condition, rows, 0, rows.length, true,
+                            new Filter(query, department, skillIds, QueryPlan.Access.SKILL_INDEX, i)));
+      conditions.add(condition);
+    }
+    if (query.namePrefix() != null) {
+      String condition = "name starts with '" + query.namePrefix() + "'";
+      int from = lowerBound(sortedNames, query.namePrefix());
+      int to = prefixEnd(sortedNames, from, query.namePrefix());
+      paths.add(new Planned(QueryPlan.Access.NAME_INDEX, condition, byName, from, to, false,
+                            new Filter(query, department, skillIds, QueryPlan.Access.NAME_INDEX, -1)));
+      conditions.add(condition);
+    }
+
+    Filter scanFilter = new Filter(query, department, skillIds, QueryPlan.Access.SCAN, -1);
+    Planned best = paths.stream()
+                        .min(Comparator.comparingInt(path -> path.to() - path.from()))
+                        .filter(path -> path.to() - path.from() <= SCAN_FRACTION * size)
+                        .orElse(new Planned(QueryPlan.Access.SCAN, null, null, 0, size, true, scanFilter));
+    List<String> remaining = new ArrayList<>(conditions);
+    remaining.remove(best.condition());
+    return best.withPlan(new QueryPlan(best.access(), best.condition(), best.to() - best.from(), size, remaining));
+  }
+
+  private Planned empty(String condition) {
+    QueryPlan plan = new QueryPlan(QueryPlan.Access.EMPTY, condition, 0, employees.size(), List.of());
+    return new Planned(QueryPlan.Access.EMPTY, condition, null, 0, 0, true, row -> false).withPlan(plan);
+  }
+
+  // first index whose value is >= key
+  private static int lowerBound(int[] sorted, int key) {
+    int lo = 0;
+    int hi = sorted.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (sorted[mid] < key) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  // first index whose value is > key
+  private static int upperBound(int[] sorted, int key) {
+    return key == Integer.MAX_VALUE ? sorted.length : lowerBound(sorted, key + 1);
+  }
+
+  private static int lowerBound(String[] sorted, String key) {
+    int lo = 0;
+    int hi = sorted.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (sorted[mid].compareTo(key) < 0) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  // names starting with the prefix are contiguous from lowerBound(prefix) on
+  private static int prefixEnd(String[] sorted, int from, String prefix) {
+    int lo = from;
+    int hi = sorted.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (sorted[mid].startsWith(prefix)) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  /**
+   * An access path: rows {@code rows[from..to)} ({@code from..to} themselves when {@code rows}
+   * is null), in row order or not, with the filter left to check on each
+   */
+  private record Planned(QueryPlan.Access access, String condition, int[] rows, int from, int to,
+                         boolean ordered, RowFilter filter, QueryPlan plan) {
+
+    private Planned(QueryPlan.Access access, String condition, int[] rows, int from, int to,
+                    boolean ordered, RowFilter filter) {
+      this(access, condition, rows, from, to, ordered, filter, null);
+    }
+
+    private Planned withPlan(QueryPlan plan) {
+      return new Planned(access, condition, rows, from, to, ordered, filter, plan);
+    }
+  }
+
+  @FunctionalInterface
+  private interface RowFilter {
+    boolean test(int row);
+  }
+
+  /**
+   * The query's conditions resolved against the index columns (canonical department, skill
+   * ids), minus the ones the access path already guarantees
+   */
+  private final class Filter implements RowFilter {
+    private final EmployeeQuery query;
+    private final String department;
+    private final int[] skillIds;
+    private final boolean checkSalary;
+    private final boolean checkDepartment;
+    private final boolean checkName;
+    private final int skippedSkill;
+
+    private Filter(EmployeeQuery query, String department, int[] skillIds, QueryPlan.Access access, int skippedSkill) {
+      this.query = query;
+      this.department = department;
+      this.skillIds = skillIds;
+      this.checkSalary = query.hasSalaryRange() && access != QueryPlan.Access.SALARY_INDEX;
+      this.checkDepartment = department != null && access != QueryPlan.Access.DEPARTMENT_INDEX;
+      this.checkName = query.namePrefix() != null && access != QueryPlan.Access.NAME_INDEX;
+      this.skippedSkill = skippedSkill;
+    }
+
+    @Override
+    public boolean test(int row) {
+      if (checkSalary && (salaries[row] < query.minSalary() || salaries[row] > query.maxSalary())) {
+        return false;
+      }
+      if (checkDepartment && departments[row] != department) {
+        return false;
+      }
+      for (int i = 0; i < skillIds.length; i++) {
+        if (i != skippedSkill && !employees.get(row).skillSet().containsId(skillIds[i])) {
+          return false;
+        }
+      }
+      return !checkName || employees.get(row).name().startsWith(query.namePrefix());
+    }
+  }
+}
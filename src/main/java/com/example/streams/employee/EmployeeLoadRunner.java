@@ -0,0 +1,129 @@
+package com.example.streams.employee;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Runs every {@link EmployeeStreams} query against a dataset and measures it.
+ *
+ * <p>Each query is warmed up, then timed one call at a time to get latency percentiles.
+ * Allocation is read from the JVM's per-thread allocation counter, which covers the
+ * calling thread only, so it is exact for the sequential queries.
+ */
+public class EmployeeLoadRunner {
+
+  private final EmployeeStreams employeeStreams;
+  private final int warmupIterations;
+  private final int measuredIterations;
+  // results are folded in here so the JIT cannot drop a query whose result is unused
+  private volatile int sink;
+
+  public EmployeeLoadRunner(EmployeeStreams employeeStreams, int warmupIterations, int measuredIterations) {
+    if (warmupIterations < 0 || measuredIterations <= 0) {
+      throw new IllegalArgumentException("warmupIterations must be >= 0 and measuredIterations > 0");
+    }
+    this.employeeStreams = employeeStreams;
+    this.warmupIterations = warmupIterations;
+    this.measuredIterations = measuredIterations;
+  }
+
+  /**
+   * The queries to run, by name. Arguments are picked to return a non-trivial result
+   * on {@link EmployeeGenerator} data.
+   */
+  public Map<String, Function<List<Employee>, Object>> queries() {
+    Map<String, Function<List<Employee>, Object>> queries = new LinkedHashMap<>();
+    queries.put("groupAndCountByDepartment", employeeStreams::groupAndCountByDepartment);
+    queries.put("findTopNSalaries(10)", employees -> employeeStreams.findTopNSalaries(employees, 10));
+    queries.put("partitionBySalaryThreshold(60000)", employees -> employeeStreams.partitionBySalaryThreshold(employees, 60_000));
+    queries.put("calculateAverageSalaryByDepartment", employeeStreams::calculateAverageSalaryByDepartment);
+    queries.put("extractUniqueSkills", employeeStreams::extractUniqueSkills);
+    queries.put("estimateUniqueSkillCount", employeeStreams::estimateUniqueSkillCount);
+    queries.put("findEmployeesInSalaryRange(50000,70000)", employees -> employeeStreams.findEmployeesInSalaryRange(employees, 50_000, 70_000));
+    queries.put("joinNamesByDepartment", employees -> employeeStreams.joinNamesByDepartment(employees, ", "));
+    queries.put("findSecondHighestSalary", employeeStreams::findSecondHighestSalary);
+    queries.put("convertToMapByName", employeeStreams::convertToMapByName);
+    queries.put("findEmployeesByNamePrefix(\"Al\")", employees -> employeeStreams.findEmployeesByNamePrefix(employees, "Al"));
+    return queries;
+  }
+
+  public List<QueryReport> run(List<Employee> employees) {
+    List<QueryReport> reports = new ArrayList<>();
+    queries().forEach((name, query) -> reports.add(measure(name, query, employees)));
+    return reports;
+  }
+
+  public static void print(List<QueryReport> reports, PrintStream out) {
+    out.printf("%-42s %10s %12s %10s %10s %10s %14s%n",
+               "query", "ops/s", "records/s", "p50 ms", "p90 ms", "p99 ms", "alloc MB/op");
+    reports.forEach(report -> out.println(report.format()));
+  }
+
+  private QueryReport measure(String name, Function<List<Employee>, Object> query, List<Employee> employees) {
+    for (int i = 0; i < warmupIterations; i++) {
+      sink ^= Objects.hashCode(query.apply(employees));
+    }
+    long[] latencies = new long[measuredIterations];
+    long allocatedBefore = allocatedBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < measuredIterations; i++) {
+      long callStart = System.nanoTime();
+      Object result = query.apply(employees);
+      latencies[i] = System.nanoTime() - callStart;
+      sink ^= System.identityHashCode(result);
+    }
+    long elapsed = System.nanoTime() - start;
+    long allocated = allocatedBytes() - allocatedBefore;
+    Arrays.sort(latencies);
+    return new QueryReport(name,
+                           employees.size(),
+                           measuredIterations,
+                           measuredIterations * 1e9 / elapsed,
+                           percentile(latencies, 0.50),
+                           percentile(latencies, 0.90),
+                           percentile(latencies, 0.99),
+                           allocated < 0 ? -1 : allocated / measuredIterations);
+  }
+
+  private static long percentile(long[] sorted, double percentile) {
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+  }
+
+  // -1 when the JVM does not expose per-thread allocation counters
+  private static long allocatedBytes() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+        && threads.isThreadAllocatedMemorySupported()) {
+      return threads.getCurrentThreadAllocatedBytes();
+    }
+    return -1;
+  }
+
+  /**
+   * Measurements of one query
+   *
+   * @param bytesAllocatedPerOp bytes allocated by the calling thread per call, -1 if unknown
+   */
+  public record QueryReport(String query,
+                            int records,
+                            int iterations,
+                            double opsPerSecond,
+                            long p50Nanos,
+                            long p90Nanos,
+                            long p99Nanos,
+                            long bytesAllocatedPerOp) {
+
+    public double recordsPerSecond() {
+      return opsPerSecond * records;
+    }
+
+    public String format() {
+      return String.format("%-42s %10.1f %12.0f %10.2f %10.2f %10.2f %14.2f",
+                           query, opsPerSecond, recordsPerSecond(),
+                           p50Nanos / 1e6, p90Nanos / 1e6, p99Nanos / 1e6,
+                           bytesAllocatedPerOp / (1024.0 * 1024.0));
+    }
+  }
+}
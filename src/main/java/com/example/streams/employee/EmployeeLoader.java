@@ -0,0 +1,488 @@
+package com.example.streams.employee;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Reads employees from a UTF-8 file, one record per line, either as CSV
+ * ({@code name,department,salary,skill;skill;...}, optional {@code name,...} header line,
+ * no quoting) or as NDJSON ({@code {"name": ..., "department": ..., "salary": ...,
+ * "skills": [...]}}, unknown keys ignored).
+ *
+ * <p>The file is memory-mapped in chunks of about {@code chunkSize} bytes, each extended to the
+ * end of its last line so no record straddles two chunks. Chunks are parsed independently, in
+ * parallel, straight from the mapped bytes: no line strings are built, salaries are parsed from
+ * the digits, and departments and skills, which repeat a lot, are decoded once per chunk and
+ * then reused from a small byte-keyed cache.
+ *
+ * <p>Records keep file order in both {@link #stream(Path)} and {@link #flux(Path)}. The flux
+ * parses at most {@code concurrency} chunks ahead of downstream demand.
+ */
+public final class EmployeeLoader {
+
+  public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+  public enum Format {
+    CSV, NDJSON;
+
+    /**
+     * NDJSON for {@code .ndjson} and {@code .jsonl} files, CSV otherwise
+     */
+    public static Format of(Path file) {
+      String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+      return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? NDJSON : CSV;
+    }
+  }
+
+  private final Format format;
+  private final int chunkSize;
+
+  public EmployeeLoader(Format format) {
+    this(format, DEFAULT_CHUNK_SIZE);
+  }
+
+  public EmployeeLoader(Format format, int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be > 0");
+    }
+    this.format = Objects.requireNonNull(format, "format");
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Loader for the file's format, as told by its extension
+   */
+  public static EmployeeLoader forFile(Path file) {
+    return new EmployeeLoader(Format.of(file));
+  }
+
+  public List<Employee> load(Path file) throws IOException {
+    return stream(file).toList();
+  }
+
+  /**
+   * Parallel stream of the file's employees; the file is mapped on the call, parsed when the
+   * stream is consumed. Malformed records fail the stream with an
+   * {@link IllegalArgumentException} giving their byte offset.
+   */
+  public Stream<Employee> stream(Path file) throws IOException {
+    return chunks(file).parallelStream()
+                       .flatMap(chunk -> parse(chunk).stream());
+  }
+
+  public Flux<Employee> flux(Path file) {
+    return flux(file, Schedulers.DEFAULT_POOL_SIZE);
+  }
+
+  /**
+   * Backpressured flux of the file's employees: chunks are parsed on the parallel scheduler,
+   * at most {@code concurrency} at a time and only as downstream requests more
+   */
+  public Flux<Employee> flux(Path file, int concurrency) {
+    return Flux.defer(() -> {
+                 try {
+                   return Flux.fromIterable(chunks(file));
+                 } catch (IOException e) {
+                   return Flux.error(e);
+                 }
+               })
+               .flatMapSequential(chunk -> Mono.fromCallable(() -> parse(chunk))
+                                               .subscribeOn(Schedulers.parallel()),
+                                  concurrency, 1)
+               .flatMapIterable(Function.identity());
+  }
+
+  List<Chunk> chunks(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      List<Chunk> chunks = new ArrayList<>();
+      long start = 0;
+      while (start < size) {
+        long end = lineEnd(channel, Math.min(size, start + chunkSize), size);
+        chunks.add(new Chunk(start, channel.map(FileChannel.MapMode.READ_ONLY, start, end - start)));
+        start = end;
+      }
+      // mappings stay valid once the channel is closed
+      return chunks;
+    }
+  }
+
+  /**
+   * Position just after the first line feed at or after {@code from - 1}, or {@code size}
+   */
+  private static long lineEnd(FileChannel channel, long from, long size) throws IOException {
+    ByteBuffer probe = ByteBuffer.allocate(512);
+    long position = from - 1;
+    while (position < size) {
+      probe.clear();
+      int read = channel.read(probe, position);
+      for (int i = 0; i < read; i++) {
+        if (probe.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += Math.max(read, 0);
+      if (read <= 0) {
+        break;
+      }
+    }
+    return size;
+  }
+
+  private List<Employee> parse(Chunk chunk) {
+    ChunkParser parser = new ChunkParser(chunk);
+    ByteBuffer bytes = chunk.bytes();
+    int lineStart = 0;
+    for (int i = 0; i <= bytes.limit(); i++) {
+      if (i == bytes.limit() || bytes.get(i) == '\n') {
+        int lineEnd = i > lineStart && bytes.get(i - 1) == '\r' ? i - 1 : i;
+        if (format == Format.CSV) {
+          parser.parseCsv(lineStart, lineEnd);
+        } else {
+          parser.parseJson(lineStart, lineEnd);
+        }
+        lineStart = i + 1;
+      }
+    }
+    return parser.employees;
+  }
+
+  record Chunk(long offset, ByteBuffer bytes) {
+  }
+
+  private static final class ChunkParser {
+    private final Chunk chunk;
+    private final ByteBuffer bytes;
+    private final List<Employee> employees = new ArrayList<>();
+    private final List<String> skills = new ArrayList<>();
+    private final StringCache cache = new StringCache();
+    private byte[] scratch = new byte[256];
+    private int position;
+
+    private ChunkParser(Chunk chunk) {
+      this.chunk = chunk;
+      this.bytes = chunk.bytes();
+    }
+
+    private void parseCsv(int lo, int hi) {
+      if (isBlank(lo, hi) || (chunk.offset() == 0 && lo == 0 && startsWithIgnoreCase(lo, hi, "name,"))) {
+        return;
+      }
+      int nameEnd = indexOf(',', lo, hi);
+      int departmentEnd = indexOf(',', nameEnd + 1, hi);
+      if (departmentEnd >= hi) {
+        throw malformed(lo, "expected name,department,salary[,skills]");
+      }
+      int salaryEnd = indexOf(',', departmentEnd + 1, hi);
+      skills.clear();
+      for (int skillStart = salaryEnd + 1; skillStart < hi; ) {
+        int skillEnd = indexOf(';', skillStart, hi);
+        if (!isBlank(skillStart, skillEnd)) {
+          skills.add(trimmed(skillStart, skillEnd, true));
+        }
+        skillStart = skillEnd + 1;
+      }
+      employees.add(new Employee(trimmed(lo, nameEnd, false),
+                                 trimmed(nameEnd + 1, departmentEnd, true),
+                                 parseInt(departmentEnd + 1, salaryEnd),
+                                 skills));
+    }
+
+    private void parseJson(int lo, int hi) {
+      if (isBlank(lo, hi)) {
+        return;
+      }
+      String name = null;
+      String department = null;
+      Integer salary = null;
+      skills.clear();
+      position = lo;
+      expect('{', hi);
+      if (peek(hi) == '}') {
+        position++;
+      } else {
+        do {
+          String key = readString(hi, false);
+          expect(':', hi);
+          switch (key) {
+            case "name" -> name = readString(hi, false);
+            case "department" -> department = readString(hi, true);
+            case "salary" -> salary = readInt(hi);
+            case "skills" -> readSkills(hi);
+            default -> skipValue(hi);
+          }
+        } while (next(',', '}', hi) == ',');
+      }
+      if (!isBlank(position, hi)) {
+        throw malformed(position, "unexpected content after the record");
+      }
+      if (name == null || department == null || salary == null) {
+        throw malformed(lo, "name, department and salary are required");
+      }
+      employees.add(new Employee(name, department, salary, skills));
+    }
+
+    private void readSkills(int hi) {
+      expect('[', hi);
+      if (peek(hi) == ']') {
+        position++;
+        return;
+      }
+      do {
+        skills.add(readString(hi, true));
+      } while (next(',', ']', hi) == ',');
+    }
+
+    private String readString(int hi, boolean cached) {
+      expect('"', hi);
+      int start = position;
+      while (position < hi && bytes.get(position) != '"') {
+        if (bytes.get(position) == '\\') {
+          return readEscapedString(start, hi);
+        }
+        position++;
+      }
+      if (position >= hi) {
+        throw malformed(start, "unterminated string");
+      }
+      String value = decode(start, position, cached);
+      position++;
+      return value;
+    }
+
+    private String readEscapedString(int start, int hi) {
+      StringBuilder value = new StringBuilder(decode(start, position, false));
+      while (position < hi && bytes.get(position) != '"') {
+        int runStart = position;
+        while (position < hi && bytes.get(position) != '"' && bytes.get(position) != '\\') {
+          position++;
+        }
+        value.append(decode(runStart, position, false));
+        if (position < hi && bytes.get(position) == '\\') {
+          if (position + 1 >= hi) {
+            throw malformed(start, "unterminated string");
+          }
+          byte escaped = bytes.get(position + 1);
+          position += 2;
+          switch (escaped) {
+            case 'n' -> value.append('\n');
+            case 't' -> value.append('\t');
+            case 'r' -> value.append('\r');
+            case 'b' -> value.append('\b');
+            case 'f' -> value.append('\f');
+            case 'u' -> {
+              if (position + 4 > hi) {
+                throw malformed(position, "truncated unicode escape");
+              }
+              value.append(readHex4(position));
+              position += 4;
+            }
+            default -> value.append((char) escaped);
+          }
+        }
+      }
+      if (position >= hi) {
+        throw malformed(start, "unterminated string");
+      }
+      position++;
+      return value.toString();
+    }
+
+    // exactly four hex digits: Integer.parseInt would also take a sign
+    private char readHex4(int at) {
+      int code = 0;
+      for (int i = at; i < at + 4; i++) {
+        int digit = Character.digit(bytes.get(i), 16);
+        if (digit < 0) {
+          throw malformed(at, "invalid unicode escape");
+        }
+        code = code << 4 | digit;
+      }
+      return (char) code;
+    }
+
+    private int readInt(int hi) {
+      skipWhitespace(hi);
+      int start = position;
+      while (position < hi && (bytes.get(position) == '-' || isDigit(bytes.get(position)))) {
+        position++;
+      }
+      return parseInt(start, position);
+    }
+
+    private void skipValue(int hi) {
+      int c = peek(hi);
+      if (c == '"') {
+        readString(hi, false);
+      } else if (c == '[') {
+        position++;
+        if (peek(hi) == ']') {
+          position++;
+          return;
+        }
+        do {
+          skipValue(hi);
+        } while (next(',', ']', hi) == ',');
+      } else if (c == '{') {
+        throw malformed(position, "nested objects are not supported");
+      } else {
+        while (position < hi && ",}] \t".indexOf(bytes.get(position)) < 0) {
+          position++;
+        }
+      }
+    }
+
+    private int peek(int hi) {
+      skipWhitespace(hi);
+      return position < hi ? bytes.get(position) : -1;
+    }
+
+    private void expect(char expected, int hi) {
+      if (peek(hi) != expected) {
+        throw malformed(position, "expected '" + expected + "'");
+      }
+      position++;
+    }
+
+    private int next(char either, char or, int hi) {
+      int c = peek(hi);
+      if (c != either && c != or) {
+        throw malformed(position, "expected '" + either + "' or '" + or + "'");
+      }
+      position++;
+      return c;
+    }
+
+    private void skipWhitespace(int hi) {
+      while (position < hi && isWhitespace(bytes.get(position))) {
+        position++;
+      }
+    }
+
+    private int parseInt(int lo, int hi) {
+      while (lo < hi && isWhitespace(bytes.get(lo))) {
+        lo++;
+      }
+      while (hi > lo && isWhitespace(bytes.get(hi - 1))) {
+        hi--;
+      }
+      boolean negative = lo < hi && bytes.get(lo) == '-';
+      int i = negative ? lo + 1 : lo;
+      if (i >= hi || hi - i > 9) {
+        throw malformed(lo, "invalid salary");
+      }
+      int value = 0;
+      for (; i < hi; i++) {
+        byte digit = bytes.get(i);
+        if (!isDigit(digit)) {
+          throw malformed(lo, "invalid salary");
+        }
+        value = value * 10 + (digit - '0');
+      }
+      return negative ? -value : value;
+    }
+
+    private String trimmed(int lo, int hi, boolean cached) {
+      while (lo < hi && isWhitespace(bytes.get(lo))) {
+        lo++;
+      }
+      while (hi > lo && isWhitespace(bytes.get(hi - 1))) {
+        hi--;
+      }
+      return decode(lo, hi, cached);
+    }
+
+    private String decode(int lo, int hi, boolean cached) {
+      int length = hi - lo;
+      if (scratch.length < length) {
+        scratch = new byte[Math.max(length, scratch.length * 2)];
+      }
+      bytes.get(lo, scratch, 0, length);
+      return cached ? cache.get(scratch, length) : new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private int indexOf(char c, int lo, int hi) {
+      for (int i = lo; i < hi; i++) {
+        if (bytes.get(i) == c) {
+          return i;
+        }
+      }
+      return hi;
+    }
+
+    private boolean isBlank(int lo, int hi) {
+      for (int i = lo; i < hi; i++) {
+        if (!isWhitespace(bytes.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean startsWithIgnoreCase(int lo, int hi, String prefix) {
+      if (hi - lo < prefix.length()) {
+        return false;
+      }
+      for (int i = 0; i < prefix.length(); i++) {
+        if (Character.toLowerCase(bytes.get(lo + i)) != prefix.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private IllegalArgumentException malformed(int index, String reason) {
+      return new IllegalArgumentException("malformed employee record at byte " + (chunk.offset() + index)
+                                          + ": " + reason);
+    }
+
+    private static boolean isWhitespace(byte b) {
+      return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static boolean isDigit(byte b) {
+      return b >= '0' && b <= '9';
+    }
+  }
+
+  /**
+   * Direct-mapped cache from UTF-8 bytes to their decoded string; a miss simply replaces the slot
+   */
+  private static final class StringCache {
+    private static final int SIZE = 256;
+
+    private final byte[][] keys = new byte[SIZE][];
+    private final String[] values = new String[SIZE];
+
+    private String get(byte[] utf8, int length) {
+      int hash = 1;
+      for (int i = 0; i < length; i++) {
+        hash = 31 * hash + utf8[i];
+      }
+      int slot = (hash ^ hash >>> 16) & (SIZE - 1);
+      byte[] key = keys[slot];
+      if (key != null && Arrays.equals(key, 0, key.length, utf8, 0, length)) {
+        return values[slot];
+      }
+      String value = new String(utf8, 0, length, StandardCharsets.UTF_8);
+      keys[slot] = Arrays.copyOf(utf8, length);
+      values[slot] = value;
+      return value;
+    }
+  }
+}
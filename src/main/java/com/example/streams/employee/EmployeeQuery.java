@@ -0,0 +1,66 @@
+package com.example.streams.employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Conjunction of employee filters, built from {@link #all()} with the {@code with...} methods.
+ * Same semantics as the {@link EmployeeStreams} finders: salary bounds are inclusive, the name
+ * prefix is case-sensitive.
+ *
+ * <p>Any query can be applied to a stream as a {@link Predicate}; {@link EmployeeIndex#execute}
+ * runs it through the cheapest index instead.
+ *
+ * @param department {@code null} for any department
+ * @param namePrefix {@code null} for any name
+ * @param skills     skills an employee must all have; empty for any
+ */
+public record EmployeeQuery(int minSalary, int maxSalary, String department, String namePrefix,
+                            List<String> skills) implements Predicate<Employee> {
+
+  private static final EmployeeQuery ALL =
+      new EmployeeQuery(Integer.MIN_VALUE, Integer.MAX_VALUE, null, null, List.of());
+
+  public EmployeeQuery {
+    skills = List.copyOf(skills);
+  }
+
+  public static EmployeeQuery all() {
+    return ALL;
+  }
+
+  public EmployeeQuery withSalaryBetween(int minSalary, int maxSalary) {
+    return new EmployeeQuery(minSalary, maxSalary, department, namePrefix, skills);
+  }
+
+  public EmployeeQuery withDepartment(String department) {
+    return new EmployeeQuery(minSalary, maxSalary, department, namePrefix, skills);
+  }
+
+  public EmployeeQuery withNamePrefix(String namePrefix) {
+    return new EmployeeQuery(minSalary, maxSalary, department, namePrefix, skills);
+  }
+
+  /**
+   * Add required skills to the ones already required
+   */
+  public EmployeeQuery withSkills(String... skills) {
+    List<String> required = new ArrayList<>(this.skills);
+    required.addAll(Arrays.asList(skills));
+    return new EmployeeQuery(minSalary, maxSalary, department, namePrefix, required);
+  }
+
+  public boolean hasSalaryRange() {
+    return minSalary != Integer.MIN_VALUE || maxSalary != Integer.MAX_VALUE;
+  }
+
+  @Override
+  public boolean test(Employee employee) {
+    return employee.salary() >= minSalary && employee.salary() <= maxSalary
+           && (department == null || department.equals(employee.department()))
+           && (namePrefix == null || employee.name().startsWith(namePrefix))
+           && employee.skills().containsAll(skills);
+  }
+}
@@ -0,0 +1,265 @@
+package com.example.streams.employee;
+
+import com.example.functional.PersistentHashMap;
+import com.example.functional.PersistentIntMultiset;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The current employees, as a multiset of {@link Employee} values, with the
+ * {@link EmployeeStreams} aggregates kept up to date on every change instead of recomputed
+ * from the whole collection.
+ *
+ * <p>Employees have no identity besides their value, and names repeat in real data, so the
+ * repository holds exactly the employees it was given, equal ones included: built from a list,
+ * every view gives the same result as the matching {@code EmployeeStreams} call on that list.
+ * An update is a {@link #replace} of one employee value by another.
+ *
+ * <p>Views: employee count and salary sum per department, reference counts per skill id, and a
+ * salary multiset. An add, remove or replace adjusts each view by the difference between the
+ * old and new employee: O(log n) per view, O(skills) for skills. Reads are O(size of the view),
+ * not O(number of employees).
+ *
+ * <p>All of it lives in one immutable state built from persistent structures
+ * ({@link PersistentHashMap}, {@link PersistentIntMultiset}): a change copies only the paths it
+ * touches and shares the rest. Writers publish the new state with a compare-and-set, retrying
+ * if another writer got there first; readers take the current state with a single volatile
+ * read and never wait, even while writers are busy. Every read, and every {@link #snapshot()},
+ * sees one state.
+ */
+public final class EmployeeRepository {
+
+  private final AtomicReference<State> state = new AtomicReference<>(State.EMPTY);
+
+  public EmployeeRepository() {
+  }
+
+  public EmployeeRepository(List<Employee> employees) {
+    State initial = State.EMPTY;
+    for (Employee employee : employees) {
+      initial = initial.with(requireComplete(employee));
+    }
+    state.set(initial);
+  }
+
+  public void add(Employee employee) {
+    requireComplete(employee);
+    update(null, employee);
+  }
+
+  /**
+   * Remove one occurrence of the employee; {@code false} if there was none
+   */
+  public boolean remove(Employee employee) {
+    return update(Objects.requireNonNull(employee, "employee"), null);
+  }
+
+  /**
+   * Replace one occurrence of {@code current} by {@code replacement} in a single step, so no
+   * reader sees the employee missing or twice; {@code false}, and no change, if {@code current}
+   * was not there
+   */
+  public boolean replace(Employee current, Employee replacement) {
+    Objects.requireNonNull(current, "current");
+    requireComplete(replacement);
+    return update(current, replacement);
+  }
+
+  /**
+   * Number of occurrences of the employee
+   */
+  public int count(Employee employee) {
+    return state.get().employees.getOrDefault(employee, 0);
+  }
+
+  /**
+   * Number of employees, equal ones counted each time
+   */
+  public int size() {
+    return state.get().size;
+  }
+
+  /**
+   * Same result as {@link EmployeeStreams#groupAndCountByDepartment}
+   */
+  public Map<String, Long> departmentCounts() {
+    return snapshot().departmentCounts();
+  }
+
+  /**
+   * Same result as {@link EmployeeStreams#calculateAverageSalaryByDepartment}
+   */
+  public Map<String, Double> averageSalaryByDepartment() {
+    return snapshot().averageSalaryByDepartment();
+  }
+
+  /**
+   * Same result as {@link EmployeeStreams#extractUniqueSkills}
+   */
+  public Set<String> uniqueSkills() {
+    return snapshot().uniqueSkills();
+  }
+
+  /**
+   * Same result as {@link EmployeeStreams#findTopNSalaries}
+   */
+  public List<Integer> topSalaries(int n) {
+    return snapshot().topSalaries(n);
+  }
+
+  /**
+   * The current state; it never changes, whatever writers do afterwards
+   */
+  public Snapshot snapshot() {
+    return new Snapshot(state.get());
+  }
+
+  private static Employee requireComplete(Employee employee) {
+    Objects.requireNonNull(employee, "employee");
+    Objects.requireNonNull(employee.department(), "department");
+    return employee;
+  }
+
+  private boolean update(Employee previous, Employee replacement) {
+    while (true) {
+      State current = state.get();
+      State next = current;
+      if (previous != null) {
+        if (!current.employees.containsKey(previous)) {
+          return false;
+        }
+        next = next.without(previous);
+      }
+      if (replacement != null) {
+        next = next.with(replacement);
+      }
+      if (state.compareAndSet(current, next)) {
+        return true;
+      }
+    }
+  }
+
+  private record DepartmentTotals(long count, long salarySum) {
+  }
+
+  private record State(PersistentHashMap<Employee, Integer> employees,
+                       int size,
+                       PersistentHashMap<String, DepartmentTotals> departments,
+                       PersistentHashMap<Integer, Integer> skillCounts,
+                       PersistentIntMultiset salaries) {
+
+    private static final State EMPTY = new State(PersistentHashMap.empty(), 0, PersistentHashMap.empty(),
+                                                 PersistentHashMap.empty(), PersistentIntMultiset.empty());
+
+    private State with(Employee employee) {
+      DepartmentTotals totals = departments.getOrDefault(employee.department(), new DepartmentTotals(0, 0));
+      PersistentHashMap<Integer, Integer> skills = skillCounts;
+      SkillSet skillSet = employee.skillSet();
+      for (int i = 0; i < skillSet.size(); i++) {
+        int id = skillSet.idAt(i);
+        skills = skills.put(id, skills.getOrDefault(id, 0) + 1);
+      }
+      return new State(employees.put(employee, employees.getOrDefault(employee, 0) + 1),
+                       size + 1,
+                       departments.put(employee.department(),
+                                       new DepartmentTotals(totals.count() + 1, totals.salarySum() + employee.salary())),
+                       skills,
+                       salaries.add(employee.salary()));
+    }
+
+    // the employee must be present
+    private State without(Employee employee) {
+      int occurrences = employees.get(employee);
+      DepartmentTotals totals = departments.get(employee.department());
+      PersistentHashMap<Integer, Integer> skills = skillCounts;
+      SkillSet skillSet = employee.skillSet();
+      for (int i = 0; i < skillSet.size(); i++) {
+        int id = skillSet.idAt(i);
+        int count = skills.get(id);
+        skills = count == 1 ? skills.remove(id) : skills.put(id, count - 1);
+      }
+      return new State(occurrences == 1 ? employees.remove(employee) : employees.put(employee, occurrences - 1),
+                       size - 1,
+                       totals.count() == 1
+                       ? departments.remove(employee.department())
+                       : departments.put(employee.department(),
+                                         new DepartmentTotals(totals.count() - 1, totals.salarySum() - employee.salary())),
+                       skills,
+                       salaries.remove(employee.salary()));
+    }
+  }
+
+  /**
+   * One consistent state of the repository; views are built from it on demand
+   */
+  public static final class Snapshot {
+    private final State state;
+
+    private Snapshot(State state) {
+      this.state = state;
+    }
+
+    public int size() {
+      return state.size();
+    }
+
+    public int count(Employee employee) {
+      return state.employees().getOrDefault(employee, 0);
+    }
+
+    public Map<String, Long> departmentCounts() {
+      Map<String, Long> counts = new HashMap<>(state.departments().size() * 2);
+      state.departments().forEach((department, totals) -> counts.put(department, totals.count()));
+      return counts;
+    }
+
+    public Map<String, Long> salarySums() {
+      Map<String, Long> sums = new HashMap<>(state.departments().size() * 2);
+      state.departments().forEach((department, totals) -> sums.put(department, totals.salarySum()));
+      return sums;
+    }
+
+    public Map<String, Double> averageSalaryByDepartment() {
+      Map<String, Double> averages = new HashMap<>(state.departments().size() * 2);
+      state.departments().forEach((department, totals) ->
+                                      averages.put(department, (double) totals.salarySum() / totals.count()));
+      return averages;
+    }
+
+    /**
+     * Number of employees having each skill
+     */
+    public Map<String, Integer> skillCounts() {
+      Map<String, Integer> counts = new HashMap<>(state.skillCounts().size() * 2);
+      SkillDictionary dictionary = SkillDictionary.global();
+      state.skillCounts().forEach((id, count) -> counts.put(dictionary.nameOf(id), count));
+      return counts;
+    }
+
+    public Set<String> uniqueSkills() {
+      return Collections.unmodifiableSet(skillCounts().keySet());
+    }
+
+    /**
+     * Number of employees per salary, ascending
+     */
+    public NavigableMap<Integer, Integer> salaryCounts() {
+      TreeMap<Integer, Integer> counts = new TreeMap<>();
+      state.salaries().forEach(counts::put);
+      return counts;
+    }
+
+    public List<Integer> topSalaries(int n) {
+      return Arrays.stream(state.salaries().largest(n)).boxed().toList();
+    }
+  }
+}
@@ -1,14 +1,20 @@
 package com.example.streams.employee;
 
+import com.example.sketch.CardinalityEstimator;
+
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.*;
 
 public class EmployeeStreams {
   public Map<String, Long> groupAndCountByDepartment(List<Employee> employees) {
-    return employees.stream()
-            .collect(groupingBy(Employee::department, counting()));
+    Map<String, long[]> counts = groupByDepartment(employees, () -> new long[1], (count, employee) -> count[0]++);
+    Map<String, Long> result = new HashMap<>(counts.size() * 2);
+    counts.forEach((department, count) -> result.put(department, count[0]));
+    return result;
   }
 
   public List<Integer> findTopNSalaries(List<Employee> employees, int i) {
@@ -25,15 +31,41 @@ public class EmployeeStreams {
             .collect(partitioningBy(e -> e.salary() > threshold));
   }
 
+  // Banding for many thresholds at once: one pass, binary search per employee, bands are views (see SalaryBands).
+  public SalaryBands bandBySalary(List<Employee> employees, int... thresholds) {
+    return SalaryBands.of(employees, thresholds, false);
+  }
+
+  public SalaryBands bandBySalaryInParallel(List<Employee> employees, int... thresholds) {
+    return SalaryBands.of(employees, thresholds, true);
+  }
+
   public Map<String, Double> calculateAverageSalaryByDepartment(List<Employee> employees) {
-    return employees.stream()
-            .collect(groupingBy(Employee::department, averagingInt(Employee::salary)));
+    Map<String, long[]> sums = groupByDepartment(employees, () -> new long[2], (sum, employee) -> {
+      sum[0] += employee.salary();
+      sum[1]++;
+    });
+    Map<String, Double> result = new HashMap<>(sums.size() * 2);
+    sums.forEach((department, sum) -> result.put(department, (double) sum[0] / sum[1]));
+    return result;
   }
 
+  // Skills are interned ids (see SkillSet), so the scan only sets bits; names are looked up once per distinct skill.
   public Set<String> extractUniqueSkills(List<Employee> employees) {
+    SkillDictionary dictionary = SkillDictionary.global();
+    BitSet seen = new BitSet(dictionary.size());
+    employees.forEach(employee -> employee.skillSet().forEachId(seen::set));
+    return seen.stream()
+            .mapToObj(dictionary::nameOf)
+            .collect(Collectors.toSet());
+  }
+
+  // Only the number of distinct skills, for inputs too large to hold every skill in a Set:
+  // counted exactly up to a threshold, then estimated with HyperLogLog in fixed memory.
+  public long estimateUniqueSkillCount(Collection<Employee> employees) {
     return employees.stream()
             .flatMap(employee -> employee.skills().stream())
-            .collect(Collectors.toSet());
+            .collect(CardinalityEstimator.counting());
   }
 
   public List<String> findEmployeesInSalaryRange(List<Employee> employees, int i, int i1) {
@@ -44,11 +76,11 @@ public class EmployeeStreams {
   }
 
   public Map<String, String> joinNamesByDepartment(List<Employee> employees, String s) {
-    return employees.stream()
-            .collect(groupingBy(Employee::department,
-                    mapping(Employee::name,
-                            joining(s)))
-            );
+    Map<String, StringJoiner> joiners = groupByDepartment(employees, () -> new StringJoiner(s),
+            (joiner, employee) -> joiner.add(employee.name()));
+    Map<String, String> result = new HashMap<>(joiners.size() * 2);
+    joiners.forEach((department, joiner) -> result.put(department, joiner.toString()));
+    return result;
   }
 
   public Optional<Integer> findSecondHighestSalary(List<Employee> employees) {
@@ -72,10 +104,31 @@ public class EmployeeStreams {
                     collectingAndThen(toList(), List::getFirst)));
   }
 
+  // One pass for any combination of filters; to run many queries over the same employees,
+  // build an EmployeeIndex once and let it pick an index per query.
+  public List<Employee> findEmployees(List<Employee> employees, EmployeeQuery query) {
+    return employees.stream()
+            .filter(query)
+            .toList();
+  }
+
   public List<Employee> findEmployeesByNamePrefix(List<Employee> employees, String prefix) {
     return employees.stream()
             .filter(e -> e.name().startsWith(prefix))
             .toList();
   }
 
+  // Departments are canonical instances (see StringPool), so an IdentityHashMap groups them
+  // with a reference comparison instead of String.equals. Same null handling as groupingBy.
+  private static <A> Map<String, A> groupByDepartment(List<Employee> employees,
+                                                      Supplier<A> newAccumulator,
+                                                      BiConsumer<A, Employee> accumulate) {
+    Map<String, A> groups = new IdentityHashMap<>();
+    for (Employee employee : employees) {
+      String department = Objects.requireNonNull(employee.department(), "element cannot be mapped to a null key");
+      accumulate.accept(groups.computeIfAbsent(department, d -> newAccumulator.get()), employee);
+    }
+    return groups;
+  }
+
 }
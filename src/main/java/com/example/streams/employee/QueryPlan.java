@@ -0,0 +1,42 @@
+package com.example.streams.employee;
+
+import java.util.List;
+
+/**
+ * How an {@link EmployeeIndex} runs an {@link EmployeeQuery}: the access path producing the
+ * candidate rows and the filters checked on each candidate. For debugging; the string form is
+ * meant to be logged.
+ *
+ * @param candidates exact number of rows the access path reads
+ * @param filters    remaining conditions, checked in one pass over the candidates
+ */
+public record QueryPlan(Access access, String accessCondition, int candidates, int rows, List<String> filters) {
+
+  public enum Access {
+    /** A filter names a department or skill no employee has: nothing is read */
+    EMPTY,
+    SALARY_INDEX,
+    DEPARTMENT_INDEX,
+    NAME_INDEX,
+    SKILL_INDEX,
+    /** Every row is read, salary column first */
+    SCAN
+  }
+
+  public QueryPlan {
+    filters = List.copyOf(filters);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder plan = new StringBuilder(access.name());
+    if (accessCondition != null) {
+      plan.append(" [").append(accessCondition).append(']');
+    }
+    plan.append(" reads ").append(candidates).append(" of ").append(rows).append(" rows");
+    if (!filters.isEmpty()) {
+      plan.append(", filter ").append(String.join(" and ", filters));
+    }
+    return plan.toString();
+  }
+}
@@ -0,0 +1,125 @@
+package com.example.streams.employee;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Employees split into salary bands by a list of thresholds, in one pass.
+ *
+ * <p>With thresholds {@code t0 < t1 < ... < tn-1} there are {@code n + 1} bands: band 0
+ * holds salaries {@code <= t0}, band {@code i} salaries in {@code (ti-1, ti]} and the last
+ * band salaries {@code > tn-1} - the same cut as
+ * {@link EmployeeStreams#partitionBySalaryThreshold} for a single threshold. Each employee
+ * is placed by binary search over the thresholds. Bands are read-only views over one
+ * shared index array, in the input order; no employee list is copied.
+ */
+public final class SalaryBands {
+
+  private final List<Employee> employees;
+  private final int[] thresholds;
+  // employee indexes grouped by band; band b is order[offsets[b]..offsets[b + 1])
+  private final int[] order;
+  private final int[] offsets;
+
+  private SalaryBands(List<Employee> employees, int[] thresholds, int[] order, int[] offsets) {
+    this.employees = employees;
+    this.thresholds = thresholds;
+    this.order = order;
+    this.offsets = offsets;
+  }
+
+  /**
+   * Band the employees; thresholds may come in any order, duplicates are ignored
+   */
+  public static SalaryBands of(List<Employee> employees, int[] thresholds, boolean parallel) {
+    int[] sorted = Arrays.stream(thresholds).sorted().distinct().toArray();
+    // views index into the list, so it needs O(1) get
+    List<Employee> source = employees instanceof RandomAccess ? employees : new ArrayList<>(employees);
+    int size = source.size();
+
+    IntStream indexes = IntStream.range(0, size);
+    if (parallel) {
+      indexes = indexes.parallel();
+    }
+    int[] bandOf = new int[size];
+    indexes.forEach(i -> bandOf[i] = band(sorted, source.get(i).salary()));
+
+    int[] offsets = new int[sorted.length + 2];
+    for (int band : bandOf) {
+      offsets[band + 1]++;
+    }
+    for (int band = 0; band <= sorted.length; band++) {
+      offsets[band + 1] += offsets[band];
+    }
+    int[] next = Arrays.copyOf(offsets, sorted.length + 1);
+    int[] order = new int[size];
+    for (int i = 0; i < size; i++) {
+      order[next[bandOf[i]]++] = i;
+    }
+    return new SalaryBands(source, sorted, order, offsets);
+  }
+
+  public int bandCount() {
+    return thresholds.length + 1;
+  }
+
+  /**
+   * The band a salary falls into
+   */
+  public int bandOf(int salary) {
+    return band(thresholds, salary);
+  }
+
+  public List<Employee> band(int band) {
+    Objects.checkIndex(band, bandCount());
+    return new BandView(offsets[band], offsets[band + 1]);
+  }
+
+  public List<List<Employee>> bands() {
+    List<List<Employee>> bands = new ArrayList<>(bandCount());
+    for (int band = 0; band < bandCount(); band++) {
+      bands.add(band(band));
+    }
+    return Collections.unmodifiableList(bands);
+  }
+
+  public int[] thresholds() {
+    return thresholds.clone();
+  }
+
+  // index of the first threshold >= salary, or thresholds.length when there is none
+  private static int band(int[] thresholds, int salary) {
+    int lo = 0;
+    int hi = thresholds.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (thresholds[mid] < salary) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  private final class BandView extends AbstractList<Employee> implements RandomAccess {
+    private final int from;
+    private final int to;
+
+    private BandView(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public Employee get(int index) {
+      Objects.checkIndex(index, to - from);
+      return employees.get(order[from + index]);
+    }
+
+    @Override
+    public int size() {
+      return to - from;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.example.streams.employee;
+
+import java.util.SplittableRandom;
+
+/**
+ * How {@link EmployeeGenerator} draws salaries. Samples are rounded to whole units
+ * and never negative.
+ */
+@FunctionalInterface
+public interface SalaryDistribution {
+
+  int sample(SplittableRandom random);
+
+  static SalaryDistribution uniform(int min, int max) {
+    if (min < 0 || max < min) {
+      throw new IllegalArgumentException("Expected 0 <= min <= max");
+    }
+    return random -> random.nextInt(min, max + 1);
+  }
+
+  static SalaryDistribution normal(double mean, double standardDeviation) {
+    return random -> clamp(mean + standardDeviation * random.nextGaussian());
+  }
+
+  /**
+   * Right-skewed, like real pay: most salaries near the median, a long tail of high earners
+   */
+  static SalaryDistribution logNormal(double median, double sigma) {
+    double mu = Math.log(median);
+    return random -> clamp(Math.exp(mu + sigma * random.nextGaussian()));
+  }
+
+  private static int clamp(double salary) {
+    return (int) Math.max(0, Math.min(Math.round(salary), Integer.MAX_VALUE));
+  }
+}
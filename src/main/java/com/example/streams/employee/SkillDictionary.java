@@ -0,0 +1,71 @@
+package com.example.streams.employee;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interned skill names, each mapped to a small dense int id.
+ *
+ * <p>Employees hold skills as ids ({@link SkillSet}), so a million employees knowing
+ * "Java" share one {@code "Java"} string, and skill scans compare ints instead of
+ * hashing strings. Ids are never reused or removed; the dictionary is meant for a
+ * vocabulary of thousands of skills, not for arbitrary text.
+ */
+public final class SkillDictionary {
+
+  private static final SkillDictionary GLOBAL = new SkillDictionary();
+
+  private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+  // written under the lock, read without it: a reader always sees a complete array
+  private volatile String[] names = new String[64];
+  private int size;
+
+  /**
+   * The dictionary used by every {@link Employee}
+   */
+  public static SkillDictionary global() {
+    return GLOBAL;
+  }
+
+  public int idOf(String skill) {
+    Integer id = ids.get(skill);
+    return id != null ? id : register(skill);
+  }
+
+  /**
+   * The id of an already known skill, or -1; unlike {@link #idOf} never registers it
+   */
+  public int find(String skill) {
+    Integer id = ids.get(skill);
+    return id != null ? id : -1;
+  }
+
+  public String nameOf(int id) {
+    String name = id >= 0 && id < names.length ? names[id] : null;
+    if (name == null) {
+      throw new IllegalArgumentException("Unknown skill id " + id);
+    }
+    return name;
+  }
+
+  public int size() {
+    return ids.size();
+  }
+
+  private synchronized int register(String skill) {
+    Integer existing = ids.get(skill);
+    if (existing != null) {
+      return existing;
+    }
+    int id = size++;
+    String[] current = names;
+    if (id == current.length) {
+      current = Arrays.copyOf(current, current.length * 2);
+    }
+    current[id] = skill;
+    names = current;
+    // publish the id only once its name is readable
+    ids.put(skill, id);
+    return id;
+  }
+}
@@ -0,0 +1,100 @@
+package com.example.streams.employee;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable set of skills stored as {@link SkillDictionary} ids.
+ *
+ * <p>Exposes the usual {@code List<String>} view, in first-seen order without duplicates;
+ * names are looked up in the dictionary on access, nothing is copied. Code that only needs
+ * to compare or collect skills should use {@link #forEachId} and {@link #containsId}.
+ */
+public final class SkillSet extends AbstractList<String> implements RandomAccess {
+
+  public static final SkillSet EMPTY = new SkillSet(new int[0]);
+
+  private final int[] ids;
+  private int hash;
+
+  private SkillSet(int[] ids) {
+    this.ids = ids;
+  }
+
+  public static SkillSet of(Collection<String> skills) {
+    if (skills instanceof SkillSet skillSet) {
+      return skillSet;
+    }
+    if (skills == null || skills.isEmpty()) {
+      return EMPTY;
+    }
+    SkillDictionary dictionary = SkillDictionary.global();
+    int[] ids = new int[skills.size()];
+    int size = 0;
+    for (String skill : skills) {
+      int id = dictionary.idOf(Objects.requireNonNull(skill, "skill"));
+      if (!contains(ids, size, id)) {
+        ids[size++] = id;
+      }
+    }
+    return new SkillSet(size == ids.length ? ids : Arrays.copyOf(ids, size));
+  }
+
+  @Override
+  public String get(int index) {
+    Objects.checkIndex(index, ids.length);
+    return SkillDictionary.global().nameOf(ids[index]);
+  }
+
+  @Override
+  public int size() {
+    return ids.length;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o instanceof String skill && containsId(SkillDictionary.global().find(skill));
+  }
+
+  public boolean containsId(int id) {
+    return contains(ids, ids.length, id);
+  }
+
+  int idAt(int index) {
+    return ids[index];
+  }
+
+  public void forEachId(IntConsumer action) {
+    for (int id : ids) {
+      action.accept(id);
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o instanceof SkillSet other) {
+      return Arrays.equals(ids, other.ids);
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    int h = hash;
+    if (h == 0) {
+      h = super.hashCode();
+      hash = h;
+    }
+    return h;
+  }
+
+  // employees have a handful of skills: a linear scan beats hashing
+  private static boolean contains(int[] ids, int size, int id) {
+    for (int i = 0; i < size; i++) {
+      if (ids[i] == id) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,51 @@
+package com.example.streams.employee;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent string interning pool: equal strings map to one canonical instance.
+ *
+ * <p>Datasets repeat the same few departments millions of times. Canonicalizing them
+ * keeps one copy in memory, and because two canonical strings are equal exactly when
+ * they are the same instance, grouping can use identity instead of {@code equals}.
+ *
+ * <p>Entries are never removed: pool bounded vocabularies (departments, names), not
+ * free text.
+ */
+public final class StringPool {
+
+  private static final StringPool DEPARTMENTS = new StringPool();
+  private static final StringPool NAMES = new StringPool();
+
+  private final ConcurrentHashMap<String, String> pool = new ConcurrentHashMap<>();
+
+  /**
+   * Pool applied to every {@link Employee#department()}
+   */
+  public static StringPool departments() {
+    return DEPARTMENTS;
+  }
+
+  /**
+   * Pool for employee names, applied by {@link Employee#interned}
+   */
+  public static StringPool names() {
+    return NAMES;
+  }
+
+  public String intern(String value) {
+    if (value == null) {
+      return null;
+    }
+    String canonical = pool.get(value);
+    if (canonical != null) {
+      return canonical;
+    }
+    canonical = pool.putIfAbsent(value, value);
+    return canonical != null ? canonical : value;
+  }
+
+  public int size() {
+    return pool.size();
+  }
+}
@@ -0,0 +1,108 @@
+package com.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MainTest {
+
+  @TempDir
+  Path directory;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+  private int run(String... args) {
+    return Main.run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+                    new PrintStream(err, true, StandardCharsets.UTF_8));
+  }
+
+  private String output() {
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @DisplayName("Should print text statistics of a file")
+  void testText() throws IOException {
+    // Given
+    Path file = Files.writeString(directory.resolve("text.txt"), "the cat and the hat\nthe elephant\n");
+
+    // When
+    int status = run("text", file.toString());
+
+    // Then
+    assertEquals(0, status);
+    assertTrue(output().contains("lines: 2"));
+    assertTrue(output().contains("words: 7"));
+    assertTrue(output().contains("distinct words: 5"));
+    assertTrue(output().contains("longest words: [elephant]"));
+    assertTrue(output().contains("top words: [the=3"));
+  }
+
+  @Test
+  @DisplayName("Should print employee statistics of a CSV file")
+  void testEmployees() throws IOException {
+    // Given
+    Path file = Files.writeString(directory.resolve("employees.csv"), """
+        Alice,Engineering,95000,Java;Kotlin
+        Bob,Engineering,85000,Java
+
+        Carol,Sales,50000,
+        """);
+
+    // When
+    int status = run("employees", file.toString());
+
+    // Then
+    assertEquals(0, status);
+    assertTrue(output().contains("employees: 3"));
+    assertTrue(output().contains("by department: {Engineering=2, Sales=1}"));
+    assertTrue(output().contains("top salaries: [95000, 85000, 50000]"));
+    assertTrue(output().contains("distinct skills: 2"));
+  }
+
+  @Test
+  @DisplayName("Should read employees from an NDJSON file")
+  void testEmployeesNdjson() throws IOException {
+    // Given
+    Path file = Files.writeString(directory.resolve("employees.ndjson"), """
+        {"name": "Alice", "department": "Engineering", "salary": 95000, "skills": ["Java"]}
+        {"name": "Bob", "department": "Sales", "salary": 50000}
+        """);
+
+    // When
+    int status = run("employees", file.toString());
+
+    // Then
+    assertEquals(0, status);
+    assertTrue(output().contains("by department: {Engineering=1, Sales=1}"));
+  }
+
+  @Test
+  @DisplayName("Should run the training workload")
+  void testTrain() {
+    assertEquals(0, run("train"));
+    assertTrue(output().contains("employees: 10000"));
+  }
+
+  @Test
+  @DisplayName("Should report usage and failures through the exit status")
+  void testErrors() {
+    assertEquals(2, run());
+    assertEquals(2, run("text"));
+    assertEquals(2, run("unknown", "file"));
+    assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("usage:"));
+
+    assertEquals(1, run("text", directory.resolve("missing.txt").toString()));
+    assertTrue(err.toString(StandardCharsets.UTF_8).contains("error: java.nio.file.NoSuchFileException"));
+  }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.IntStream;
 
 class FunctionalProgrammingExamplesTest {
 
@@ -357,4 +358,57 @@ class FunctionalProgrammingExamplesTest {
     Function<String, String> addDr = fpExamples.createPrefixFunction("Dr. ");
     assertEquals("Dr. House", addDr.apply("House"), "Should add 'Dr. ' prefix");
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Should reduce primitive arrays, streams and IntLists without boxing")
+  void testPrimitiveReduce() {
+    // Given
+    int[] numbers = {1, 2, 3, 4, 5};
+    IntBinaryOperator sum = Integer::sum;
+
+    // Then
+    assertEquals(15, fpExamples.reduceWithBinaryOperator(numbers, 0, sum));
+    assertEquals(120, fpExamples.reduceWithBinaryOperator(IntList.of(numbers), 1, (a, b) -> a * b));
+    assertEquals(5, fpExamples.reduceWithBinaryOperator(IntStream.of(numbers), Integer.MIN_VALUE, Math::max));
+
+    int[] large = IntStream.rangeClosed(1, 100_000).toArray();
+    assertEquals(fpExamples.reduceWithBinaryOperator(large, 0, sum),
+                 fpExamples.reduceInParallel(large, 0, sum),
+                 "Parallel reduction of an associative operator should match the sequential one");
+  }
+
+  @Test
+  @DisplayName("Should chain IntPredicates over primitive arrays, IntLists and IntStreams")
+  void testPrimitivePredicateChains() {
+    // Given
+    int[] numbers = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12};
+    IntPredicate isEven = n -> n % 2 == 0;
+    IntPredicate greaterThanFive = n -> n > 5;
+
+    // Then
+    assertArrayEquals(new int[]{6, 8, 10, 12}, fpExamples.chainPredicatesWithAnd(numbers, isEven, greaterThanFive));
+    assertEquals(IntList.of(6, 8, 10, 12), fpExamples.chainPredicatesWithAnd(IntList.of(numbers), isEven, greaterThanFive));
+    assertArrayEquals(new int[]{1, 2, 9, 10, 11, 12}, fpExamples.chainPredicatesWithOr(numbers, n -> n < 3, n -> n > 8));
+    assertEquals(IntList.of(1, 2, 9, 10, 11, 12), fpExamples.chainPredicatesWithOr(IntList.of(numbers), n -> n < 3, n -> n > 8));
+    assertArrayEquals(new int[]{6, 8, 10, 12},
+                      fpExamples.chainPredicatesWithAnd(IntStream.of(numbers), isEven, greaterThanFive).toArray());
+    assertArrayEquals(new int[]{1, 2, 9, 10, 11, 12},
+                      fpExamples.chainPredicatesWithOr(IntStream.of(numbers), n -> n < 3, n -> n > 8).toArray());
+  }
+
+  @Test
+  @DisplayName("IntList should grow and compare by content")
+  void testIntList() {
+    IntList list = new IntList(0);
+    for (int i = 0; i < 100; i++) {
+      list.add(i);
+    }
+
+    assertEquals(100, list.size());
+    assertEquals(99, list.get(99));
+    assertEquals(4950, list.stream().sum());
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+    assertEquals(IntList.of(1, 2), IntList.of(1, 2));
+    assertEquals("[1, 2]", IntList.of(1, 2).toString());
+  }
+}
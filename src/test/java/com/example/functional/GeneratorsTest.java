@@ -0,0 +1,77 @@
+package com.example.functional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratorsTest {
+
+  @Test
+  @DisplayName("Should fill every slot exactly once when generating in parallel")
+  void testGenerateInParallel() {
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+
+    // When
+    List<Integer> values = Generators.generateInParallel(counter::getAndIncrement, 10_000, 100);
+
+    // Then
+    assertEquals(10_000, values.size());
+    assertEquals(10_000, counter.get(), "Supplier should be called once per element");
+    assertArrayEquals(IntStream.range(0, 10_000).toArray(),
+                      values.stream().mapToInt(Integer::intValue).sorted().toArray());
+    assertThrows(UnsupportedOperationException.class, () -> values.add(1));
+  }
+
+  @Test
+  @DisplayName("Should generate primitive arrays without boxing")
+  void testGeneratePrimitives() {
+    // Given
+    AtomicInteger ints = new AtomicInteger();
+    AtomicLong longs = new AtomicLong();
+
+    // When
+    int[] intValues = Generators.generateInts(ints::getAndIncrement, 10_000);
+    long[] longValues = Generators.generateLongs(longs::getAndIncrement, 10_000);
+
+    // Then
+    assertEquals(49_995_000L, Arrays.stream(intValues).asLongStream().sum());
+    assertEquals(49_995_000L, Arrays.stream(longValues).sum());
+    assertEquals(0, Generators.generateInts(() -> 1, 0).length);
+    assertThrows(IllegalArgumentException.class, () -> Generators.generateInts(() -> 1, -1));
+  }
+
+  @Test
+  @DisplayName("Should only call the supplier on demand")
+  void testGenerateFluxIsDemandDriven() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+
+    // Then
+    StepVerifier.create(Generators.generateFlux(calls::incrementAndGet, 100), 0)
+                .thenRequest(3)
+                .expectNext(1, 2, 3)
+                .then(() -> assertEquals(3, calls.get(), "Nothing should be generated ahead of demand"))
+                .thenCancel()
+                .verify();
+  }
+
+  @Test
+  @DisplayName("Should generate chunks in parallel and emit them in order")
+  void testGenerateFluxInChunks() {
+    AtomicInteger calls = new AtomicInteger();
+
+    StepVerifier.create(Generators.generateFlux(() -> "x" + calls.incrementAndGet(), 1_050, 100, 4).count())
+                .expectNext(1_050L)
+                .verifyComplete();
+    assertEquals(1_050, calls.get());
+  }
+}
@@ -0,0 +1,203 @@
+package com.example.functional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizerTest {
+
+  @Test
+  @DisplayName("Should compute each argument once and report hits")
+  void testMemoizeFunction() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+    Memoizer.MemoizedFunction<Integer, Integer> square = Memoizer.memoize(n -> {
+      calls.incrementAndGet();
+      return n * n;
+    }, CacheSpec.unbounded());
+
+    // When
+    List<Integer> results = List.of(square.apply(3), square.apply(3), square.apply(4), square.apply(3));
+
+    // Then
+    assertEquals(List.of(9, 9, 16, 9), results);
+    assertEquals(2, calls.get());
+    assertEquals(new CacheStats(2, 2, 0), square.stats());
+    assertEquals(0.5, square.stats().hitRate());
+  }
+
+  @Test
+  @DisplayName("Should work through composeFunctions, curry and applyTriFunction")
+  void testMemoizedFunctionsCompose() {
+    // Given
+    FunctionalProgrammingExamples fpExamples = new FunctionalProgrammingExamples();
+    Memoizer.MemoizedFunction<String, Integer> length = Memoizer.memoize(String::length, CacheSpec.unbounded());
+    Memoizer.MemoizedBiFunction<Integer, Integer, Integer> add = Memoizer.memoize(Integer::sum, CacheSpec.unbounded());
+    Memoizer.MemoizedTriFunction<Integer, Integer, Integer, Integer> volume =
+            Memoizer.memoize((TriFunction<Integer, Integer, Integer, Integer>) (a, b, c) -> a * b * c, CacheSpec.unbounded());
+
+    // When
+    Function<Integer, Integer> addFive = fpExamples.curry(add, 5);
+
+    // Then
+    assertEquals(10, fpExamples.composeFunctions(length, addFive, "hello"));
+    assertEquals(10, fpExamples.composeFunctions(length, addFive, "world"));
+    assertEquals(24, fpExamples.applyTriFunction(2, 3, 4, volume));
+    assertEquals(24, fpExamples.applyTriFunction(2, 3, 4, volume));
+    assertEquals(1, length.stats().hits());
+    assertEquals(1, add.stats().hits());
+    assertEquals(1, volume.stats().hits());
+  }
+
+  @Test
+  @DisplayName("Should evict the oldest entries beyond the maximum size")
+  void testBoundedEviction() {
+    // Given
+    Memoizer<Integer, String> cache = new Memoizer<>(CacheSpec.maximumSize(3));
+
+    // When
+    for (int i = 0; i < 10; i++) {
+      cache.get(i, String::valueOf);
+    }
+
+    // Then
+    assertEquals(3, cache.size());
+    assertEquals(7, cache.stats().evictions());
+    cache.get(9, key -> fail("Newest entry should still be cached"));
+  }
+
+  @Test
+  @DisplayName("Should keep the eviction queue bounded when entries fail or expire")
+  void testEvictionQueueStaysBounded() {
+    // Given - a live entry at the head of the queue, then stale ones behind it
+    AtomicLong now = new AtomicLong();
+    Memoizer<Integer, String> cache = new Memoizer<>(CacheSpec.maximumSize(10).withTtl(Duration.ofSeconds(1)), now::get);
+    cache.get(-1, String::valueOf);
+
+    // When
+    for (int i = 0; i < 1_000; i++) {
+      int key = i;
+      assertThrows(IllegalStateException.class, () -> cache.get(key, k -> {
+        throw new IllegalStateException("failed");
+      }));
+    }
+    for (int i = 0; i < 1_000; i++) {
+      now.addAndGet(Duration.ofSeconds(1).toNanos());
+      cache.get(i % 5, String::valueOf);
+    }
+
+    // Then
+    assertTrue(cache.size() <= 10);
+    assertTrue(cache.queuedSize() <= 21, "queue holds " + cache.queuedSize());
+  }
+
+  @Test
+  @DisplayName("Should recompute entries after their time to live")
+  void testTtl() {
+    // Given
+    AtomicLong now = new AtomicLong();
+    AtomicInteger calls = new AtomicInteger();
+    Memoizer<String, Integer> cache = new Memoizer<>(CacheSpec.unbounded().withTtl(Duration.ofSeconds(10)), now::get);
+    Function<String, Integer> compute = key -> calls.incrementAndGet();
+
+    // When
+    cache.get("k", compute);
+    now.set(Duration.ofSeconds(9).toNanos());
+    cache.get("k", compute);
+    now.set(Duration.ofSeconds(10).toNanos());
+    cache.get("k", compute);
+
+    // Then
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  @DisplayName("Should compute a key once under contention")
+  void testSingleComputationUnderContention() throws Exception {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    Memoizer.MemoizedFunction<String, Integer> slow = Memoizer.memoize(key -> {
+      calls.incrementAndGet();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return key.length();
+    }, CacheSpec.unbounded());
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      // When
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> slow.apply("expensive")));
+      }
+      Thread.sleep(50);
+      release.countDown();
+
+      // Then
+      for (Future<Integer> future : futures) {
+        assertEquals(9, future.get(5, TimeUnit.SECONDS));
+      }
+      assertEquals(1, calls.get());
+      assertEquals(7, slow.stats().hits());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Should allow recursion on other keys and reject it on the same key")
+  void testRecursion() {
+    // Given
+    Memoizer<Integer, Long> fibonacci = new Memoizer<>(CacheSpec.unbounded());
+    Function<Integer, Long> fibonacciOf = new Function<>() {
+      @Override
+      public Long apply(Integer n) {
+        return n < 2 ? (long) n : fibonacci.get(n - 1, this) + fibonacci.get(n - 2, this);
+      }
+    };
+    Memoizer<Integer, Integer> looping = new Memoizer<>(CacheSpec.unbounded());
+    Function<Integer, Integer> itself = new Function<>() {
+      @Override
+      public Integer apply(Integer n) {
+        return looping.get(n, this);
+      }
+    };
+
+    // Then
+    assertEquals(12_586_269_025L, fibonacci.get(50, fibonacciOf));
+    assertTimeoutPreemptively(Duration.ofSeconds(5),
+                              () -> assertThrows(IllegalStateException.class, () -> looping.get(1, itself)));
+    assertEquals(0, looping.size(), "The failed computation should not be cached");
+  }
+
+  @Test
+  @DisplayName("Should not cache failures")
+  void testFailuresNotCached() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+    BiFunction<Integer, Integer, Integer> divide = (a, b) -> {
+      calls.incrementAndGet();
+      return a / b;
+    };
+    Memoizer.MemoizedBiFunction<Integer, Integer, Integer> memoized = Memoizer.memoize(divide, CacheSpec.unbounded());
+
+    // Then
+    assertThrows(ArithmeticException.class, () -> memoized.apply(1, 0));
+    assertThrows(ArithmeticException.class, () -> memoized.apply(1, 0));
+    assertEquals(2, calls.get());
+  }
+}
@@ -0,0 +1,88 @@
+package com.example.functional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentHashMapTest {
+
+  // few distinct hash codes: forces collision nodes and deep tries
+  private record Colliding(int value) {
+    @Override
+    public int hashCode() {
+      return value % 7;
+    }
+  }
+
+  @Test
+  @DisplayName("Should behave like a HashMap under random puts and removes")
+  void testAgainstHashMap() {
+    // Given
+    Random random = new Random(42);
+    PersistentHashMap<Object, Integer> map = PersistentHashMap.empty();
+    Map<Object, Integer> expected = new HashMap<>();
+
+    // When
+    for (int i = 0; i < 100_000; i++) {
+      Object key = random.nextBoolean() ? random.nextInt(5_000) : new Colliding(random.nextInt(300));
+      if (random.nextInt(3) == 0) {
+        map = map.remove(key);
+        expected.remove(key);
+      } else {
+        int value = random.nextInt(10);
+        map = map.put(key, value);
+        expected.put(key, value);
+      }
+    }
+
+    // Then
+    assertEquals(expected, map.toMap());
+    assertEquals(expected.size(), map.size());
+    expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+  }
+
+  @Test
+  @DisplayName("Earlier versions should be unaffected by later changes")
+  void testPersistence() {
+    // Given
+    List<PersistentHashMap<Integer, String>> versions = new ArrayList<>();
+    PersistentHashMap<Integer, String> map = PersistentHashMap.empty();
+    for (int i = 0; i < 1_000; i++) {
+      map = map.put(i, "v" + i);
+      versions.add(map);
+    }
+
+    // When
+    PersistentHashMap<Integer, String> changed = map.remove(0).put(1, "changed");
+
+    // Then
+    for (int i = 0; i < versions.size(); i++) {
+      assertEquals(i + 1, versions.get(i).size());
+      assertEquals("v" + i, versions.get(i).get(i));
+      assertNull(versions.get(i).get(i + 1));
+    }
+    assertEquals("v0", map.get(0));
+    assertEquals("v1", map.get(1));
+    assertNull(changed.get(0));
+    assertEquals("changed", changed.get(1));
+    assertEquals(999, changed.size());
+  }
+
+  @Test
+  @DisplayName("Unchanged maps should be returned as is")
+  void testNoOpUpdates() {
+    PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().put("a", 1);
+
+    assertSame(map, map.put("a", 1));
+    assertSame(map, map.remove("b"));
+    assertTrue(map.remove("a").isEmpty());
+    assertThrows(NullPointerException.class, () -> map.put("b", null));
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.functional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentIntMultisetTest {
+
+  @Test
+  @DisplayName("Should behave like a sorted count map under random adds and removes")
+  void testAgainstTreeMap() {
+    // Given
+    Random random = new Random(7);
+    PersistentIntMultiset multiset = PersistentIntMultiset.empty();
+    TreeMap<Integer, Integer> expected = new TreeMap<>();
+
+    // When
+    for (int i = 0; i < 50_000; i++) {
+      int value = random.nextInt(2_000) - 1_000;
+      if (random.nextInt(3) == 0) {
+        multiset = multiset.remove(value);
+        expected.computeIfPresent(value, (v, count) -> count == 1 ? null : count - 1);
+      } else {
+        multiset = multiset.add(value);
+        expected.merge(value, 1, Integer::sum);
+      }
+    }
+
+    // Then
+    TreeMap<Integer, Integer> actual = new TreeMap<>();
+    multiset.forEach(actual::put);
+    assertEquals(expected, actual);
+    assertEquals(expected.size(), multiset.distinct());
+    assertArrayEquals(expected.descendingKeySet().stream().limit(5).mapToInt(Integer::intValue).toArray(),
+                      multiset.largest(5));
+  }
+
+  @Test
+  @DisplayName("Earlier versions should be unaffected by later changes")
+  void testPersistence() {
+    PersistentIntMultiset one = PersistentIntMultiset.empty().add(5);
+    PersistentIntMultiset two = one.add(5).add(9);
+    PersistentIntMultiset three = two.remove(5).remove(9);
+
+    assertEquals(1, one.count(5));
+    assertEquals(2, two.count(5));
+    assertArrayEquals(new int[]{9, 5}, two.largest(10));
+    assertEquals(1, three.count(5));
+    assertEquals(0, three.count(9));
+    assertSame(three, three.remove(42));
+  }
+}
@@ -0,0 +1,108 @@
+package com.example.reactive;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedWheelTimerTest {
+
+  private HashedWheelTimer timer;
+
+  @BeforeEach
+  void setUp() {
+    timer = new HashedWheelTimer(Duration.ofMillis(5), 8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    timer.close();
+  }
+
+  @Test
+  @DisplayName("Should round the wheel size up to a power of two")
+  void testWheelSizeRoundedUp() {
+    try (HashedWheelTimer odd = new HashedWheelTimer(Duration.ofMillis(1), 100)) {
+      assertEquals(128, odd.wheelSize());
+    }
+  }
+
+  @Test
+  @DisplayName("Should fire a timeout no earlier than its delay, even past one wheel round")
+  void testFiresAfterDelay() throws InterruptedException {
+    // Given - 8 slots of 5ms, so 100ms needs more than two rounds
+    CountDownLatch fired = new CountDownLatch(1);
+    long start = System.nanoTime();
+
+    // When
+    timer.newTimeout(fired::countDown, 100, TimeUnit.MILLISECONDS);
+
+    // Then
+    assertTrue(fired.await(2, TimeUnit.SECONDS), "Timeout should fire");
+    assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100), "Should not fire early");
+    assertEquals(0, timer.pendingTimeouts());
+    assertEquals(1, timer.expiredTimeouts());
+  }
+
+  @Test
+  @DisplayName("Should not run a cancelled timeout")
+  void testCancel() throws InterruptedException {
+    // Given
+    AtomicBoolean ran = new AtomicBoolean();
+    HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> ran.set(true), 30, TimeUnit.MILLISECONDS);
+
+    // When
+    assertTrue(timeout.cancel());
+    Thread.sleep(80);
+
+    // Then
+    assertFalse(ran.get());
+    assertFalse(timeout.cancel(), "Cancelling twice should report false");
+    assertEquals(0, timer.pendingTimeouts());
+  }
+
+  @Test
+  @DisplayName("Should drive delayElements through the wheel scheduler")
+  void testEmitWithDelayOnWheelScheduler() {
+    // Given
+    WheelScheduler scheduler = new WheelScheduler(timer, Schedulers.parallel());
+    ReactiveStringProcessor processor = new ReactiveStringProcessor();
+
+    // When
+    Flux<String> result = processor.emitWithDelay(List.of("one", "two"), Duration.ofMillis(20), scheduler);
+
+    // Then
+    StepVerifier.create(result)
+                .expectNext("one", "two")
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+    assertEquals(2, timer.expiredTimeouts());
+  }
+
+  @Test
+  @DisplayName("Should cap and jitter backoff delays")
+  void testBackoffCapAndJitter() {
+    Backoff backoff = Backoff.exponential(Duration.ofMillis(100))
+                             .withMax(Duration.ofMillis(500))
+                             .withJitter(0.2);
+
+    for (int attempt = 0; attempt < 10; attempt++) {
+      long delay = backoff.delayFor(attempt).toMillis();
+      long expected = Math.min(100L << attempt, 500);
+      assertTrue(delay >= expected * 0.8 && delay <= Math.min(expected * 1.2, 500),
+                 "Delay " + delay + " should be within 20% of " + expected + " and capped");
+    }
+    assertEquals(Duration.ofMillis(400), Backoff.exponential(Duration.ofMillis(100)).delayFor(2));
+  }
+}
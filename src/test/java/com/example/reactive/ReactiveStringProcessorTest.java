@@ -1,5 +1,6 @@
 package com.example.reactive;
 
+import com.example.streams.CharClass;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -8,10 +9,13 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -368,4 +372,198 @@ class ReactiveStringProcessorTest {
             })
             .verifyComplete();
   }
+
+  @Test
+  @DisplayName("Should find most common words per tumbling window")
+  void testFindTopWordsInWindows() {
+    // Given - lines arrive at 0.7s, 1.4s and 2.1s
+    Flux<String> lines = Flux.just("the cat", "the dog", "a cat");
+
+    // When - operators must be assembled inside the supplier to pick up virtual time
+    // Then
+    StepVerifier.withVirtualTime(() -> processor.findTopWordsInWindows(
+                        lines.delayElements(Duration.ofMillis(700)), Duration.ofSeconds(2), 1))
+                .thenAwait(Duration.ofSeconds(3))
+                .assertNext(top -> assertEquals(List.of(Map.entry("the", 2L)), top))
+                .assertNext(top -> assertEquals(List.of(Map.entry("a", 1L)), top))
+                .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should count distinct words reactively")
+  void testCountDistinctWordsReactive() {
+    // Given
+    Flux<String> words = Flux.just("a", "b", "a", "c", "b");
+
+    // When
+    Mono<Long> result = processor.countDistinctWordsReactive(words);
+
+    // Then
+    StepVerifier.create(result)
+                .expectNext(3L)
+                .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should restart the index for every subscription")
+  void testEmitWordsWithIndexPerSubscription() {
+    // Given
+    Flux<String> result = processor.emitWordsWithIndex(Flux.just("a", "b"));
+
+    // Then
+    StepVerifier.create(result).expectNext("0: a", "1: b").verifyComplete();
+    StepVerifier.create(result).expectNext("0: a", "1: b").verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should emit words with index as encoded byte buffers")
+  void testEmitWordsWithIndexEncoded() {
+    // Given
+    Flux<String> words = Flux.range(0, 12).map(i -> i == 11 ? "café" : "w" + i);
+
+    // When
+    Flux<String> utf8 = processor.emitWordsWithIndexEncoded(words, StandardCharsets.UTF_8)
+                                 .map(buffer -> StandardCharsets.UTF_8.decode(buffer).toString());
+    Flux<String> utf16 = processor.emitWordsWithIndexEncoded(Flux.just("ß"), StandardCharsets.UTF_16)
+                                  .map(buffer -> StandardCharsets.UTF_16.decode(buffer).toString());
+
+    // Then
+    StepVerifier.create(utf8.skip(9))
+                .expectNext("9: w9", "10: w10", "11: café")
+                .verifyComplete();
+    StepVerifier.create(utf16)
+                .expectNext("0: ß")
+                .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should count total characters over N streams on parallel rails")
+  void testCountTotalCharactersOnRails() {
+    // Given
+    List<Flux<String>> streams = List.of(
+            Flux.just("hello", "world"),
+            Flux.range(0, 1_000).map(i -> "abc"),
+            Flux.empty());
+
+    // Then
+    StepVerifier.create(processor.countTotalCharacters(streams, 4))
+                .expectNext(3_010L)
+                .verifyComplete();
+    StepVerifier.create(processor.countTotalCharacters(List.of(), 4))
+                .expectNext(0L)
+                .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should emit running character totals at a fixed interval")
+  void testCountTotalCharactersSnapshots() {
+    StepVerifier.withVirtualTime(() -> processor.countTotalCharactersSnapshots(
+                        List.of(Flux.just("ab", "cd", "ef").delayElements(Duration.ofSeconds(1)),
+                                Flux.just("xyz")),
+                        2, Duration.ofMillis(1200)))
+                .thenAwait(Duration.ofMillis(1200))
+                .assertNext(total -> assertEquals(5L, total, "xyz and ab by 1.2s"))
+                .thenAwait(Duration.ofMillis(1200))
+                .assertNext(total -> assertEquals(7L, total, "cd by 2.4s"))
+                .thenAwait(Duration.ofSeconds(1))
+                .assertNext(total -> assertEquals(9L, total, "Final total once every source completed"))
+                .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should keep only the latest total for a slow subscriber")
+  void testCountTotalCharactersSnapshotsBoundedDemand() {
+    StepVerifier.withVirtualTime(() -> processor.countTotalCharactersSnapshots(
+                        List.of(Flux.just("ab", "cd").delayElements(Duration.ofSeconds(1)), Flux.never()),
+                        2, Duration.ofMillis(100)), 1)
+                .thenAwait(Duration.ofMillis(100))
+                .expectNext(0L)
+                .thenAwait(Duration.ofSeconds(3))
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenRequest(1)
+                .assertNext(total -> assertEquals(4L, total, "The latest total, not the oldest tick"))
+                .thenCancel()
+                .verify();
+  }
+
+  @Test
+  @DisplayName("Should cancel the sources when the subscriber cancels")
+  void testCountTotalCharactersSnapshotsCancel() {
+    // Given
+    AtomicBoolean cancelled = new AtomicBoolean();
+    Flux<String> endless = Flux.<String>never().doOnCancel(() -> cancelled.set(true));
+
+    // When
+    StepVerifier.withVirtualTime(() -> processor.countTotalCharactersSnapshots(
+                        List.of(Flux.just("ab"), endless), 2, Duration.ofMillis(100)))
+                .thenAwait(Duration.ofMillis(100))
+                .expectNext(2L)
+                .thenCancel()
+                .verify();
+
+    // Then
+    assertTrue(cancelled.get(), "The endless source should be cancelled");
+  }
+
+  @Test
+  @DisplayName("Should find longest words across chunk boundaries")
+  void testFindLongestWordsReactive() {
+    // Given
+    Flux<CharBuffer> chunks = Flux.just("the eleph", "ant and the gir", "affe ran")
+                                           .map(CharBuffer::wrap);
+
+    // Then
+    StepVerifier.create(processor.findLongestWordsReactive(chunks))
+                .expectNext("elephant")
+                .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should count code points across chunk boundaries")
+  void testGetCodePointFrequenciesReactive() {
+    // Given - the emoji's surrogate pair is split between the two chunks
+    Flux<CharBuffer> chunks = Flux.just("Aa\uD83D", "\uDE00")
+                                  .map(CharBuffer::wrap);
+
+    // Then
+    StepVerifier.create(processor.getCodePointFrequenciesReactive(chunks))
+                .expectNext(Map.of((int) 'a', 2L, 0x1F600, 1L))
+                .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should group characters by class across chunks")
+  void testGroupByCharacterClassReactive() {
+    // Given
+    Flux<CharBuffer> chunks = Flux.just("Hi 4", "2, you!")
+                                  .map(CharBuffer::wrap);
+
+    // Then
+    StepVerifier.create(processor.groupByCharacterClassReactive(chunks))
+                .assertNext(groups -> {
+                   assertEquals(3, groups.count(CharClass.VOWEL));
+                   assertEquals(2, groups.count(CharClass.CONSONANT));
+                   assertEquals(2, groups.count(CharClass.DIGIT));
+                   assertEquals(2, groups.count(CharClass.WHITESPACE));
+                   assertEquals(2, groups.count(CharClass.PUNCTUATION));
+                   assertFalse(groups.hasCharacters());
+                })
+                .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should analyze documents in batches")
+  void testAnalyzeInBatches() {
+    // Given
+    Flux<String> documents = Flux.just("one", "two words", "three more words", "four");
+
+    // Then
+    StepVerifier.create(processor.analyzeInBatches(documents, 3))
+                .assertNext(stats -> {
+                  assertEquals(3, stats.size());
+                  assertEquals(6, stats.totalWords());
+                })
+                .assertNext(stats -> assertEquals(1, stats.words(0)))
+                .verifyComplete();
+  }
 }
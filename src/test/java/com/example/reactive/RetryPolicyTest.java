@@ -0,0 +1,137 @@
+package com.example.reactive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+  private ReactiveStringProcessor processor;
+  private AtomicInteger subscriptions;
+
+  @BeforeEach
+  void setUp() {
+    processor = new ReactiveStringProcessor();
+    subscriptions = new AtomicInteger();
+  }
+
+  private Mono<String> failingTimes(int failures) {
+    return Mono.defer(() -> subscriptions.incrementAndGet() <= failures
+                            ? Mono.error(new RuntimeException("Temporary failure"))
+                            : Mono.just("success"));
+  }
+
+  @Test
+  @DisplayName("Should retry with exponential backoff instead of immediately")
+  void testRetryWaitsBetweenAttempts() {
+    // Given
+    RetryPolicy policy = RetryPolicy.exponential(3, Duration.ofMillis(100))
+                                    .withBackoff(Backoff.exponential(Duration.ofMillis(100)));
+
+    // Then - 100ms then 200ms between the three attempts
+    StepVerifier.withVirtualTime(() -> processor.processWithRetry(failingTimes(2), policy))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(299))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext("success")
+                .verifyComplete();
+    assertEquals(3, subscriptions.get());
+  }
+
+  @Test
+  @DisplayName("Should stop retrying once the shared budget is spent")
+  void testRetryBudgetLimitsRetries() {
+    // Given - a single token, and requests add nothing back
+    RetryBudget budget = new RetryBudget(0, 1);
+    RetryPolicy policy = new RetryPolicy(5, Backoff.exponential(Duration.ZERO), budget);
+
+    // Then
+    StepVerifier.create(processor.processWithRetry(failingTimes(10), policy))
+                .expectErrorMessage("Temporary failure")
+                .verify();
+    assertEquals(2, subscriptions.get(), "Only one retry should be allowed");
+    assertEquals(0, budget.availableTokens());
+  }
+
+  @Test
+  @DisplayName("Retry budget deposits should never exceed the maximum")
+  void testRetryBudgetDeposits() {
+    RetryBudget budget = new RetryBudget(0.5, 2);
+    assertTrue(budget.tryWithdraw());
+    assertTrue(budget.tryWithdraw());
+    assertFalse(budget.tryWithdraw());
+
+    budget.recordRequest();
+    budget.recordRequest();
+    assertTrue(budget.tryWithdraw(), "Two requests at 0.5 should earn a retry");
+
+    for (int i = 0; i < 100; i++) {
+      budget.recordRequest();
+    }
+    assertEquals(2.0, budget.availableTokens());
+  }
+
+  @Test
+  @DisplayName("Circuit breaker should open, fail fast, then close after a successful trial")
+  void testCircuitBreakerLifecycle() {
+    // Given
+    AtomicLong now = new AtomicLong();
+    CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(1), now::get);
+
+    // When - two failures open it
+    StepVerifier.create(breaker.protect(failingTimes(2))).expectError().verify();
+    StepVerifier.create(breaker.protect(failingTimes(2))).expectError().verify();
+
+    // Then - calls fail fast without subscribing upstream
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    StepVerifier.create(breaker.protect(failingTimes(2)))
+                .expectError(CircuitBreaker.OpenException.class)
+                .verify();
+    assertEquals(2, subscriptions.get());
+
+    // When the open period is over, a trial call succeeds
+    now.set(Duration.ofSeconds(1).toNanos());
+    StepVerifier.create(breaker.protect(failingTimes(2)))
+                .expectNext("success")
+                .verifyComplete();
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+  }
+
+  @Test
+  @DisplayName("Should serve the fallback without calling upstream while the breaker is open")
+  void testFallbackWhileOpen() {
+    // Given
+    CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofMinutes(1));
+    StepVerifier.create(processor.processWithFallback(failingTimes(1), "default", breaker))
+                .expectNext("default")
+                .verifyComplete();
+
+    // Then
+    StepVerifier.create(processor.processWithFallback(failingTimes(1), "default", breaker))
+                .expectNext("default")
+                .verifyComplete();
+    assertEquals(1, subscriptions.get(), "Open breaker should shed the second call");
+  }
+
+  @Test
+  @DisplayName("Should not keep retrying into an open breaker")
+  void testRetryStopsWhenBreakerOpens() {
+    // Given
+    CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofMinutes(1));
+    RetryPolicy policy = new RetryPolicy(10, Backoff.exponential(Duration.ZERO), RetryBudget.unlimited());
+
+    // Then
+    StepVerifier.create(processor.processWithRetry(failingTimes(100), policy, breaker))
+                .expectError(CircuitBreaker.OpenException.class)
+                .verify();
+    assertEquals(2, subscriptions.get());
+  }
+}
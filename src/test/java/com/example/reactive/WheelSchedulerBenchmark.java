@@ -0,0 +1,111 @@
+package com.example.reactive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * emitWithDelay with 100k concurrent subscriptions, timed on Schedulers.parallel()
+ * versus a WheelScheduler. Reports how many delayed tasks reach the executor and how
+ * late elements are delivered. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class WheelSchedulerBenchmark {
+
+  private static final int SUBSCRIPTIONS = 100_000;
+  private static final List<String> WORDS = List.of("a", "b");
+  private static final Duration DELAY = Duration.ofMillis(50);
+
+  private final ReactiveStringProcessor processor = new ReactiveStringProcessor();
+
+  @Test
+  @DisplayName("Benchmark emitWithDelay: parallel scheduler vs hashed wheel")
+  void benchmarkEmitWithDelay() throws InterruptedException {
+    CountingScheduler parallel = new CountingScheduler(Schedulers.parallel());
+    report("parallel", parallel, run(parallel));
+
+    CountingScheduler executor = new CountingScheduler(Schedulers.parallel());
+    try (HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 1024)) {
+      report("wheel(1ms x 1024)", executor, run(new WheelScheduler(timer, executor)));
+    }
+  }
+
+  private long[] run(Scheduler scheduler) throws InterruptedException {
+    long[] lateness = new long[SUBSCRIPTIONS * WORDS.size()];
+    AtomicInteger slot = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(SUBSCRIPTIONS);
+    long delayNanos = DELAY.toNanos();
+    for (int i = 0; i < SUBSCRIPTIONS; i++) {
+      long subscribedAt = System.nanoTime();
+      int[] position = {0};
+      processor.emitWithDelay(WORDS, DELAY, scheduler)
+               .doOnNext(word -> {
+                 long expected = subscribedAt + delayNanos * ++position[0];
+                 lateness[slot.getAndIncrement()] = System.nanoTime() - expected;
+               })
+               .doFinally(signal -> done.countDown())
+               .subscribe();
+    }
+    assertTrue(done.await(2, TimeUnit.MINUTES), "All subscriptions should complete");
+    return Arrays.copyOf(lateness, slot.get());
+  }
+
+  private void report(String name, CountingScheduler executor, long[] lateness) {
+    Arrays.sort(lateness);
+    System.out.printf("%-18s delayed executor tasks=%,8d  immediate=%,8d  lateness p50=%5.1fms p99=%5.1fms max=%5.1fms%n",
+                      name,
+                      executor.delayed.sum(),
+                      executor.immediate.sum(),
+                      percentileMillis(lateness, 0.50),
+                      percentileMillis(lateness, 0.99),
+                      percentileMillis(lateness, 1.0));
+  }
+
+  private static double percentileMillis(long[] sorted, double percentile) {
+    int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+    return sorted[Math.max(index, 0)] / 1_000_000.0;
+  }
+
+  /**
+   * Counts what actually lands on the executor: immediate tasks vs tasks parked in its delay queue
+   */
+  private static final class CountingScheduler implements Scheduler {
+    private final Scheduler delegate;
+    private final LongAdder immediate = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+
+    private CountingScheduler(Scheduler delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+      immediate.increment();
+      return delegate.schedule(task);
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+      delayed.increment();
+      return delegate.schedule(task, delay, unit);
+    }
+
+    @Override
+    public Worker createWorker() {
+      return delegate.createWorker();
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.example.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHittersTest {
+
+  @Test
+  @DisplayName("Count-Min Sketch should never undercount")
+  void testCountMinSketchNeverUndercounts() {
+    // Given
+    CountMinSketch sketch = new CountMinSketch(64, 4);
+
+    // When
+    IntStream.range(0, 1000).forEach(i -> sketch.add("w" + (i % 100)));
+    sketch.add("rare");
+
+    // Then
+    assertTrue(sketch.estimate("w1") >= 10, "Estimates should be upper bounds");
+    assertTrue(sketch.estimate("rare") >= 1, "Estimates should be upper bounds");
+    assertEquals(1001, sketch.totalCount());
+  }
+
+  @Test
+  @DisplayName("Space-Saving should keep the heavy items with bounded counters")
+  void testSpaceSavingKeepsHeavyItems() {
+    // Given
+    SpaceSaving summary = new SpaceSaving(10);
+
+    // When - two heavy items hidden in a long tail of unique words
+    for (int i = 0; i < 1000; i++) {
+      summary.offer("tail" + i);
+      if (i % 4 == 0) {
+        summary.offer("heavy");
+      }
+      if (i % 5 == 0) {
+        summary.offer("medium");
+      }
+    }
+
+    // Then
+    assertEquals(10, summary.size(), "Should never hold more than capacity counters");
+    List<Map.Entry<String, Long>> top = summary.top(2);
+    assertEquals("heavy", top.get(0).getKey());
+    assertEquals("medium", top.get(1).getKey());
+    assertTrue(summary.count("heavy") >= 250, "Counts should be upper bounds");
+    assertTrue(summary.guaranteedCount("heavy") <= 250, "Guaranteed counts should be lower bounds");
+  }
+
+  @Test
+  @DisplayName("Heavy hitters should rank words of a text")
+  void testHeavyHittersRanksWords() {
+    // Given
+    HeavyHitters hitters = new HeavyHitters(2);
+
+    // When
+    hitters.addWords("The cat and the dog, the CAT!");
+
+    // Then
+    assertEquals(List.of(Map.entry("the", 3L), Map.entry("cat", 2L)), hitters.topK());
+    assertEquals(7, hitters.totalCount());
+  }
+}
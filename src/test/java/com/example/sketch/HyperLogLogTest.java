@@ -0,0 +1,88 @@
+package com.example.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+  @Test
+  @DisplayName("Should estimate cardinality within a few percent")
+  void testEstimateWithinErrorBound() {
+    // Given
+    HyperLogLog hll = new HyperLogLog();
+
+    // When - every value added twice
+    IntStream.range(0, 200_000).forEach(i -> {
+      hll.add("item-" + i);
+      hll.add("item-" + i);
+    });
+
+    // Then
+    assertEquals(200_000, hll.estimate(), 200_000 * 0.03, "Should be within 3% of the true count");
+  }
+
+  @Test
+  @DisplayName("Merged estimators should match one estimator over both inputs")
+  void testMergeIsLossless() {
+    // Given
+    HyperLogLog left = new HyperLogLog(12);
+    HyperLogLog right = new HyperLogLog(12);
+    HyperLogLog both = new HyperLogLog(12);
+
+    // When
+    IntStream.range(0, 50_000).forEach(i -> {
+      left.add("x" + i);
+      both.add("x" + i);
+    });
+    IntStream.range(25_000, 75_000).forEach(i -> {
+      right.add("x" + i);
+      both.add("x" + i);
+    });
+
+    // Then
+    assertEquals(both.estimate(), left.merge(right).estimate());
+    assertThrows(IllegalArgumentException.class, () -> left.merge(new HyperLogLog(10)));
+  }
+
+  @Test
+  @DisplayName("Parallel collector should estimate like the sequential one")
+  void testParallelCollector() {
+    HyperLogLog sequential = IntStream.range(0, 100_000).boxed().collect(HyperLogLog.collector(14));
+    HyperLogLog parallel = IntStream.range(0, 100_000).boxed().parallel().collect(HyperLogLog.collector(14));
+
+    assertEquals(sequential.estimate(), parallel.estimate());
+  }
+
+  @Test
+  @DisplayName("Hybrid estimator should be exact until the threshold, then approximate")
+  void testHybridSwitchesToApproximate() {
+    // Given
+    CardinalityEstimator<String> estimator = new CardinalityEstimator<>(1_000, 14);
+
+    // When
+    IntStream.range(0, 1_000).forEach(i -> estimator.add("s" + i));
+
+    // Then
+    assertTrue(estimator.isExact());
+    assertEquals(1_000, estimator.estimate());
+
+    // When crossing the threshold
+    IntStream.range(0, 50_000).forEach(i -> estimator.add("s" + i));
+
+    // Then
+    assertFalse(estimator.isExact());
+    assertEquals(50_000, estimator.estimate(), 50_000 * 0.03);
+  }
+
+  @Test
+  @DisplayName("Hybrid collector should count small inputs exactly")
+  void testHybridCollectorExactForSmallInputs() {
+    long distinct = "mississippi".chars().boxed().collect(CardinalityEstimator.counting());
+
+    assertEquals(4, distinct);
+  }
+}
@@ -0,0 +1,111 @@
+package com.example.streams;
+
+import com.example.streams.employee.Employee;
+import com.example.streams.employee.EmployeeGenerator;
+import com.example.streams.employee.EmployeeStreams;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A request fanning out text and employee analyses, run sequentially, with CompletableFutures
+ * and in a StructuredTaskScope: latency when every analysis succeeds, and time to failure plus
+ * analyses still running afterwards when one fails early. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class AnalysisRunnerBenchmark {
+
+  private static final int WARMUP_REQUESTS = 20;
+  private static final int REQUESTS = 50;
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+  private record Request(String text, List<Employee> employees) {
+  }
+
+  private final StreamExamples streamExamples = new StreamExamples();
+  private final EmployeeStreams employeeStreams = new EmployeeStreams();
+
+  @Test
+  @DisplayName("Benchmark a request's analyses: sequential vs futures vs structured")
+  void benchmarkSuccessfulRequests() throws Exception {
+    Request request = new Request("the quick brown fox jumps over the lazy dog ".repeat(20_000),
+                                  EmployeeGenerator.withSeed(50).generate(200_000));
+    AnalysisRunner<Request> runner = AnalysisRunner.structured(
+        Analysis.of("vowels", r -> streamExamples.countVowels(r.text())),
+        Analysis.of("most common word", r -> streamExamples.findMostCommonWord(r.text())),
+        Analysis.of("longest words", r -> streamExamples.findAllLongestWords(r.text())),
+        Analysis.of("departments", r -> employeeStreams.groupAndCountByDepartment(r.employees())),
+        Analysis.of("average salaries", r -> employeeStreams.calculateAverageSalaryByDepartment(r.employees())),
+        Analysis.of("skills", r -> employeeStreams.extractUniqueSkills(r.employees())));
+
+    for (AnalysisRunner.Mode mode : AnalysisRunner.Mode.values()) {
+      AnalysisRunner<Request> moded = runner.withMode(mode);
+      for (int i = 0; i < WARMUP_REQUESTS; i++) {
+        moded.run(request, TIMEOUT);
+      }
+      long start = System.nanoTime();
+      for (int i = 0; i < REQUESTS; i++) {
+        assertEquals(6, moded.run(request, TIMEOUT).size());
+      }
+      double millis = (System.nanoTime() - start) / 1e6 / REQUESTS;
+      System.out.printf("%-10s %8.2f ms/request%n", mode, millis);
+    }
+  }
+
+  @Test
+  @DisplayName("Benchmark a failing request: time to failure and analyses left running")
+  void benchmarkFailingRequests() throws InterruptedException {
+    // five slow lookups that honour interruption, and one analysis failing after 5 ms
+    AtomicInteger running = new AtomicInteger();
+    Analysis<Request, String> lookup = Analysis.of("lookup", r -> {
+      running.incrementAndGet();
+      try {
+        Thread.sleep(200);
+        return "found";
+      } catch (InterruptedException e) {
+        return "interrupted";
+      } finally {
+        running.decrementAndGet();
+      }
+    });
+    Analysis<Request, String> failing = Analysis.of("failing", r -> {
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      throw new IllegalStateException("lookup service unavailable");
+    });
+    AnalysisRunner<Request> runner = new AnalysisRunner<>(List.of(lookup, lookup, lookup, lookup, lookup, failing),
+                                                          AnalysisRunner.Mode.SEQUENTIAL);
+    Request request = new Request("", List.of());
+
+    for (AnalysisRunner.Mode mode : AnalysisRunner.Mode.values()) {
+      long totalNanos = 0;
+      int leaked = 0;
+      for (int i = 0; i < 10; i++) {
+        long start = System.nanoTime();
+        try {
+          runner.withMode(mode).run(request, TIMEOUT);
+        } catch (ExecutionException | TimeoutException expected) {
+          // the failure is what is measured
+        }
+        totalNanos += System.nanoTime() - start;
+        leaked += running.get();
+        while (running.get() > 0) {
+          Thread.sleep(10);
+        }
+      }
+      System.out.printf("%-10s %8.2f ms to failure, %.1f analyses still running after it%n",
+                        mode, totalNanos / 1e6 / 10, leaked / 10.0);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.example.streams;
+
+import com.example.streams.employee.Employee;
+import com.example.streams.employee.EmployeeGenerator;
+import com.example.streams.employee.EmployeeStreams;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisRunnerTest {
+
+  private record Request(String text, List<Employee> employees) {
+  }
+
+  private final StreamExamples streamExamples = new StreamExamples();
+  private final EmployeeStreams employeeStreams = new EmployeeStreams();
+
+  private final Analysis<Request, Long> vowels = Analysis.of("vowels", request -> streamExamples.countVowels(request.text()));
+  private final Analysis<Request, Map<String, Long>> departments =
+      Analysis.of("departments", request -> employeeStreams.groupAndCountByDepartment(request.employees()));
+
+  @Test
+  @DisplayName("Should combine the results of every analysis in every mode")
+  void testCombinedResults() throws Exception {
+    // Given
+    List<Employee> employees = EmployeeGenerator.withSeed(50).generate(100);
+    Request request = new Request("Hello World", employees);
+    AnalysisRunner<Request> runner = AnalysisRunner.structured(vowels, departments);
+
+    for (AnalysisRunner.Mode mode : AnalysisRunner.Mode.values()) {
+      // When
+      AnalysisResults results = runner.withMode(mode).run(request, Duration.ofSeconds(10));
+
+      // Then
+      assertEquals(2, results.size(), mode.name());
+      assertEquals(3L, results.get(vowels), mode.name());
+      assertEquals(employeeStreams.groupAndCountByDepartment(employees), results.get(departments), mode.name());
+    }
+  }
+
+  @Test
+  @DisplayName("Should report the failure of an analysis with its cause in every mode")
+  void testFailure() {
+    // Given
+    Analysis<Request, Long> failing = Analysis.of("failing", request -> {
+      throw new IllegalStateException("boom");
+    });
+    AnalysisRunner<Request> runner = AnalysisRunner.structured(vowels, failing);
+
+    for (AnalysisRunner.Mode mode : AnalysisRunner.Mode.values()) {
+      // When
+      ExecutionException e = assertThrows(ExecutionException.class,
+                                          () -> runner.withMode(mode).run(new Request("text", List.of()),
+                                                                          Duration.ofSeconds(10)));
+
+      // Then
+      assertInstanceOf(IllegalStateException.class, e.getCause(), mode.name());
+      assertEquals("boom", e.getCause().getMessage(), mode.name());
+    }
+  }
+
+  @Test
+  @DisplayName("Should interrupt and wait for the other analyses when one fails")
+  void testStructuredCancelsSiblings() throws InterruptedException {
+    // Given - the slow analysis only ends when interrupted
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    Analysis<Request, String> slow = Analysis.of("slow", request -> {
+      started.countDown();
+      try {
+        Thread.sleep(Duration.ofMinutes(1));
+        return "done";
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+        return "interrupted";
+      }
+    });
+    Analysis<Request, String> failing = Analysis.of("failing", request -> {
+      awaitUninterruptibly(started);
+      throw new IllegalStateException("boom");
+    });
+    AnalysisRunner<Request> runner = AnalysisRunner.structured(slow, failing);
+
+    // When
+    long start = System.nanoTime();
+    assertThrows(ExecutionException.class, () -> runner.run(new Request("", List.of()), Duration.ofMinutes(1)));
+
+    // Then - interrupted before run returned, long before the sleep would have ended
+    assertEquals(0, interrupted.getCount());
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30));
+  }
+
+  @Test
+  @DisplayName("Should time out when a concurrent analysis outlives the deadline")
+  void testDeadline() {
+    // Given
+    Analysis<Request, String> slow = Analysis.of("slow", request -> {
+      try {
+        Thread.sleep(Duration.ofSeconds(2));
+        return "done";
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return "interrupted";
+      }
+    });
+    AnalysisRunner<Request> runner = AnalysisRunner.structured(vowels, slow);
+
+    // Then
+    for (AnalysisRunner.Mode mode : List.of(AnalysisRunner.Mode.FUTURES, AnalysisRunner.Mode.STRUCTURED)) {
+      assertThrows(TimeoutException.class,
+                   () -> runner.withMode(mode).run(new Request("text", List.of()), Duration.ofMillis(50)),
+                   mode.name());
+    }
+  }
+
+  @Test
+  @DisplayName("Should not start the next analysis once the deadline has passed")
+  void testSequentialDeadline() {
+    // Given
+    Analysis<Request, String> slow = Analysis.of("slow", request -> {
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "done";
+    });
+    AnalysisRunner<Request> runner = new AnalysisRunner<>(List.of(slow, vowels), AnalysisRunner.Mode.SEQUENTIAL);
+
+    // Then
+    assertThrows(TimeoutException.class, () -> runner.run(new Request("text", List.of()), Duration.ofMillis(10)));
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    while (true) {
+      try {
+        latch.await();
+        return;
+      } catch (InterruptedException e) {
+        // keep waiting: the test needs the failure to follow the start
+      }
+    }
+  }
+}
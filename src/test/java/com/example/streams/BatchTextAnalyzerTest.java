@@ -0,0 +1,91 @@
+package com.example.streams;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchTextAnalyzerTest {
+
+  private final StreamExamples streamExamples = new StreamExamples();
+
+  @Test
+  @DisplayName("Should analyze each document like the single-document methods")
+  void testAnalyzeMatchesStreamExamples() {
+    // Given
+    List<String> documents = List.of("Hello World", "Java Streams are fun", "  aaa bb_b!", "xyz");
+
+    // When
+    BatchTextStats stats = new BatchTextAnalyzer().analyze(documents);
+
+    // Then
+    assertEquals(documents.size(), stats.size());
+    for (int i = 0; i < documents.size(); i++) {
+      String document = documents.get(i);
+      assertEquals(document.length(), stats.characters(i));
+      assertEquals(streamExamples.countVowels(document), stats.vowels(i));
+      assertEquals(streamExamples.countConsonants(document), stats.consonants(i));
+      assertEquals(streamExamples.getCharacterFrequencies(document).size(), stats.distinctCharacters(i));
+    }
+    assertEquals('l', stats.mostUsedCharacter(0));
+    assertEquals(2, stats.words(0));
+    assertEquals(7, stats.longestWordLength(1));
+    assertEquals(2, stats.words(2), "underscore is a word character");
+  }
+
+  @Test
+  @DisplayName("Should resolve most used character ties to the character seen first")
+  void testMostUsedCharacterTie() {
+    BatchTextStats stats = new BatchTextAnalyzer().analyze(List.of("abab", "BAba"));
+
+    assertEquals('a', stats.mostUsedCharacter(0));
+    assertEquals('b', stats.mostUsedCharacter(1));
+  }
+
+  @Test
+  @DisplayName("Should analyze empty and null documents as empty")
+  void testEmptyDocuments() {
+    // When
+    BatchTextStats stats = new BatchTextAnalyzer().analyze(Arrays.asList("", null, "   "));
+
+    // Then
+    for (int i = 0; i < stats.size(); i++) {
+      assertEquals(0, stats.words(i));
+      assertEquals(0, stats.distinctCharacters(i));
+      assertEquals(BatchTextStats.NONE, stats.mostUsedCharacter(i));
+    }
+  }
+
+  @Test
+  @DisplayName("Should give the same results in parallel as sequentially")
+  void testParallelBatch() {
+    // Given
+    List<String> documents = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      documents.add("message " + i + " from user" + (i % 97));
+    }
+    ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      // When
+      BatchTextStats parallel = new BatchTextAnalyzer(pool, 64).analyze(documents);
+      BatchTextStats sequential = new BatchTextAnalyzer(pool, Integer.MAX_VALUE).analyze(documents);
+
+      // Then
+      for (int i = 0; i < documents.size(); i++) {
+        assertEquals(sequential.words(i), parallel.words(i));
+        assertEquals(sequential.distinctCharacters(i), parallel.distinctCharacters(i));
+        assertEquals(sequential.mostUsedCharacter(i), parallel.mostUsedCharacter(i));
+      }
+      assertEquals(4L * documents.size(), parallel.totalWords());
+      assertEquals(parallel.totalCharacters(), parallel.characterCounts().asLongStream().sum());
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.example.streams;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharClassGrouperTest {
+
+  @Test
+  @DisplayName("Should count every character class in one pass")
+  void testCounts() {
+    // When
+    CharClassGroups groups = CharClassGrouper.count("Hello, World 42!\n");
+
+    // Then
+    assertEquals(3, groups.count(CharClass.VOWEL));
+    assertEquals(7, groups.count(CharClass.CONSONANT));
+    assertEquals(2, groups.count(CharClass.DIGIT));
+    assertEquals(3, groups.count(CharClass.WHITESPACE));
+    assertEquals(2, groups.count(CharClass.PUNCTUATION));
+    assertEquals(0, groups.count(CharClass.OTHER));
+    assertEquals(17, groups.total());
+    assertFalse(groups.hasCharacters());
+    assertThrows(IllegalStateException.class, () -> groups.characters(CharClass.VOWEL));
+  }
+
+  @Test
+  @DisplayName("Should keep lower-cased characters across chunks when asked")
+  void testKeptCharacters() {
+    // Given
+    CharClassGrouper grouper = new CharClassGrouper(CharClassTable.ENGLISH, true);
+
+    // When
+    CharClassGroups groups = grouper.accept(CharBuffer.wrap("HeLLo ")).accept("wOrld").finish();
+
+    // Then
+    assertEquals("eoo", groups.characters(CharClass.VOWEL).toString());
+    assertEquals(List.of('h', 'l', 'l', 'w', 'r', 'l', 'd'), groups.characterList(CharClass.CONSONANT));
+    assertEquals(" ", groups.characters(CharClass.WHITESPACE).toString());
+  }
+
+  @Test
+  @DisplayName("Should not change a finished result when more text is accepted")
+  void testFinishedResultIsStable() {
+    // Given
+    CharClassGrouper grouper = new CharClassGrouper(CharClassTable.ENGLISH, true);
+    CharClassGroups first = grouper.accept("aei").finish();
+
+    // When
+    CharClassGroups second = grouper.accept("o".repeat(100)).finish();
+
+    // Then
+    assertEquals("aei", first.characters(CharClass.VOWEL).toString());
+    assertEquals(3, first.characterList(CharClass.VOWEL).size());
+    assertEquals(103, second.count(CharClass.VOWEL));
+    assertEquals(103, second.characters(CharClass.VOWEL).length());
+  }
+
+  @Test
+  @DisplayName("Should classify with a custom classifier")
+  void testCustomClassifier() {
+    // Given - accented vowels
+    CharClassifier classifier = CharClassTable.withVowels("aeiouàéèíóú");
+
+    // When
+    CharClassGroups groups = new CharClassGrouper(classifier, false).accept("café olé").finish();
+
+    // Then
+    assertEquals(4, groups.count(CharClass.VOWEL));
+    assertEquals(3, groups.count(CharClass.CONSONANT));
+    assertEquals(2, new CharClassGrouper(CharClassTable.ENGLISH, false).accept("café olé").finish()
+                                                                     .count(CharClass.VOWEL));
+  }
+}
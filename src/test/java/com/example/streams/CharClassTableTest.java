@@ -0,0 +1,61 @@
+package com.example.streams;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharClassTableTest {
+
+  @Test
+  @DisplayName("Should flag every class of character")
+  void testFlags() {
+    // Given
+    CharClassTable table = CharClassTable.ENGLISH;
+
+    // Then
+    assertEquals(CharClassTable.LETTER | CharClassTable.VOWEL, table.flags('E'));
+    assertEquals(CharClassTable.LETTER | CharClassTable.CONSONANT, table.flags('x'));
+    assertTrue(table.isConsonant('é'));
+    assertTrue(table.is('7', CharClassTable.DIGIT | CharClassTable.WHITESPACE));
+    assertEquals(List.of(CharClass.VOWEL, CharClass.CONSONANT, CharClass.DIGIT, CharClass.WHITESPACE,
+                         CharClass.PUNCTUATION, CharClass.OTHER),
+                 "ab1 ;\u0000".chars().mapToObj(c -> table.classify((char) c)).toList());
+  }
+
+  @Test
+  @DisplayName("Should treat configured accented vowels as vowels in either case")
+  void testAccentedVowels() {
+    // Then
+    assertTrue(CharClassTable.LATIN.isVowel('é'));
+    assertTrue(CharClassTable.LATIN.isVowel('É'));
+    assertTrue(CharClassTable.LATIN.isConsonant('ç'));
+    assertTrue(CharClassTable.withVowels("aeiouy").isVowel('Y'));
+  }
+
+  @Test
+  @DisplayName("Should switch the table used by the counting methods at runtime")
+  void testSwitchCurrentTable() {
+    // Given
+    StreamExamples examples = new StreamExamples();
+    CharClassTable previous = CharClassTable.current();
+
+    try {
+      // When
+      CharClassTable.use(CharClassTable.ENGLISH);
+      long english = examples.countVowels("Éléphant");
+      CharClassTable.use(CharClassTable.LATIN);
+      long latin = examples.countVowels("Éléphant");
+
+      // Then
+      assertEquals(1, english);
+      assertEquals(3, latin);
+      assertEquals(5, examples.countConsonants("Éléphant"));
+      assertEquals(3, examples.analyzeDocuments(List.of("Éléphant")).vowels(0));
+    } finally {
+      CharClassTable.use(previous);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.example.streams;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodePointFrequenciesTest {
+
+  @Test
+  @DisplayName("Should count supplementary characters once per code point")
+  void testSupplementaryCharacters() {
+    // When
+    Map<Integer, Long> frequencies = CodePointFrequencies.count("a😀b😀");
+
+    // Then
+    assertEquals(Map.of((int) 'a', 1L, (int) 'b', 1L, 0x1F600, 2L), frequencies);
+  }
+
+  @Test
+  @DisplayName("Should fold case independently of the locale")
+  void testCaseFolding() {
+    // Given - upper, final and lower sigma; upper S, long s and lower s
+    String text = "ΣςσSſs";
+
+    // When
+    Map<Integer, Long> folded = CodePointFrequencies.count(text, true);
+    Map<Integer, Long> exact = CodePointFrequencies.count(text);
+
+    // Then
+    assertEquals(Map.of((int) 'σ', 3L, (int) 's', 3L), folded);
+    assertEquals(6, exact.size());
+  }
+
+  @Test
+  @DisplayName("Should count Latin-1, BMP and supplementary code points together")
+  void testAllTiers() {
+    // Given
+    String text = "café 中文中 😀😃😀";
+
+    // When
+    Map<Integer, Long> frequencies = CodePointFrequencies.count(text);
+
+    // Then
+    assertEquals(1L, frequencies.get((int) 'é'));
+    assertEquals(2L, frequencies.get((int) '中'));
+    assertEquals(2L, frequencies.get((int) ' '));
+    assertEquals(2L, frequencies.get(0x1F600));
+    assertEquals(1L, frequencies.get(0x1F603));
+    assertEquals(text.codePointCount(0, text.length()),
+                 frequencies.values().stream().mapToLong(Long::longValue).sum());
+  }
+
+  @Test
+  @DisplayName("Should join a surrogate pair split across chunks")
+  void testChunkedSurrogatePair() {
+    // Given
+    CodePointFrequencies frequencies = new CodePointFrequencies();
+
+    // When
+    frequencies.accept(CharBuffer.wrap("x\uD83D"));
+    frequencies.accept(CharBuffer.wrap("\uDE00y"));
+
+    // Then
+    assertEquals(Map.of((int) 'x', 1L, (int) 'y', 1L, 0x1F600, 1L), frequencies.finish());
+  }
+
+  @Test
+  @DisplayName("Should count unpaired surrogates as their own code points")
+  void testUnpairedSurrogates() {
+    assertEquals(Map.of(0xD83D, 2L, (int) 'x', 1L), CodePointFrequencies.count("\uD83Dx\uD83D"));
+    assertEquals(Map.of(0xDE00, 1L), CodePointFrequencies.count("\uDE00"));
+  }
+
+  @Test
+  @DisplayName("Should keep counting past the initial supplementary table size")
+  void testManySupplementaryCodePoints() {
+    // Given
+    StringBuilder text = new StringBuilder();
+    for (int codePoint = 0x1F300; codePoint < 0x1F300 + 1_000; codePoint++) {
+      text.appendCodePoint(codePoint).appendCodePoint(codePoint);
+    }
+
+    // When
+    Map<Integer, Long> frequencies = CodePointFrequencies.count(text);
+
+    // Then
+    assertEquals(1_000, frequencies.size());
+    assertTrue(frequencies.values().stream().allMatch(count -> count == 2L));
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.streams;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongestWordsTest {
+
+  @Test
+  @DisplayName("Should find all longest words in one pass, in order of appearance")
+  void testFind() {
+    assertEquals(List.of("bird", "fish"), LongestWords.find("cat dog bird fish"));
+    assertEquals(List.of("learning"), LongestWords.find("I am\tlearning\nJava"));
+    assertEquals(List.of(), LongestWords.find("   "));
+    assertEquals(List.of("a-b", "c-d"), LongestWords.find("a-b c-d", c -> c == ' '));
+  }
+
+  @Test
+  @DisplayName("Should join words that span chunk boundaries")
+  void testChunkedInput() {
+    // Given
+    LongestWords longestWords = new LongestWords();
+
+    // When - "hello world ab abcdef x" cut at arbitrary places
+    for (String chunk : List.of("hel", "lo wor", "ld ab", " abcde", "f", "  x")) {
+      longestWords.accept(CharBuffer.wrap(chunk));
+    }
+
+    // Then
+    assertEquals(List.of("abcdef"), longestWords.finish());
+  }
+
+  @Test
+  @DisplayName("Should close a word ending exactly at a chunk boundary")
+  void testWordEndingAtBoundary() {
+    LongestWords longestWords = new LongestWords();
+
+    longestWords.accept(CharBuffer.wrap("abc"));
+    longestWords.accept(CharBuffer.wrap(" de"));
+    longestWords.accept(CharBuffer.wrap("f ghi"));
+
+    assertEquals(List.of("abc", "def", "ghi"), longestWords.finish());
+  }
+
+  @Test
+  @DisplayName("Should not depend on the chunk buffer after accepting it")
+  void testReusedBuffer() {
+    // Given
+    LongestWords longestWords = new LongestWords();
+    char[] shared = "long ".toCharArray();
+
+    // When
+    longestWords.accept(CharBuffer.wrap(shared));
+    "zzzz ".getChars(0, 5, shared, 0);
+    longestWords.accept(CharBuffer.wrap(shared));
+
+    // Then
+    assertEquals(List.of("long", "zzzz"), longestWords.finish());
+  }
+}
@@ -0,0 +1,68 @@
+package com.example.streams;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelTextAnalyzerTest {
+
+  private static final String TEXT = "The quick brown fox jumps over the lazy dog. The dog sleeps; the fox runs! ";
+
+  private ForkJoinPool pool;
+  private ParallelTextAnalyzer analyzer;
+  private StreamExamples streamExamples;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(4);
+    // tiny threshold so even short inputs are split many times
+    analyzer = new ParallelTextAnalyzer(pool, 8);
+    streamExamples = new StreamExamples();
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  @DisplayName("Should count characters like the sequential stream version")
+  void testCharacterFrequenciesMatchSequential() {
+    String input = TEXT.repeat(50) + "ÀÉ ünïcödé 中文 😀";
+
+    assertEquals(streamExamples.getCharacterFrequencies(input), analyzer.getCharacterFrequencies(input));
+  }
+
+  @Test
+  @DisplayName("Should never split a word across tasks")
+  void testWordCountsAcrossSplits() {
+    String input = TEXT.repeat(100);
+
+    assertEquals(1500, analyzer.countWords(input));
+    Map<String, Long> frequencies = analyzer.getWordFrequencies(input);
+    assertEquals(400L, frequencies.get("the"));
+    assertEquals(200L, frequencies.get("fox"));
+    assertNull(frequencies.get("th"), "Split words would show up as fragments");
+  }
+
+  @Test
+  @DisplayName("Should find the most common word")
+  void testFindMostCommonWord() {
+    assertEquals(Optional.of("the"), analyzer.findMostCommonWord(TEXT.repeat(10)));
+    assertEquals(Optional.empty(), analyzer.findMostCommonWord(""));
+  }
+
+  @Test
+  @DisplayName("Should move splits past words and surrogate pairs")
+  void testSafeSplit() {
+    assertEquals(5, ParallelTextAnalyzer.safeSplit("hello world", 2, 11));
+    assertEquals(3, ParallelTextAnalyzer.safeSplit("a😀b", 2, 4));
+  }
+}
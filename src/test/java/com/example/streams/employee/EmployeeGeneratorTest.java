@@ -0,0 +1,96 @@
+package com.example.streams.employee;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeGeneratorTest {
+
+  @Test
+  @DisplayName("Same seed should produce the same employees, sequentially or in parallel")
+  void testDeterministic() {
+    // Given
+    EmployeeGenerator generator = EmployeeGenerator.withSeed(42);
+
+    // When
+    List<Employee> parallel = generator.generate(1_000);
+    List<Employee> sequential = generator.stream(1_000).toList();
+
+    // Then
+    assertEquals(sequential, parallel);
+    assertEquals(parallel, EmployeeGenerator.withSeed(42).generate(1_000));
+    assertNotEquals(parallel, EmployeeGenerator.withSeed(43).generate(1_000));
+  }
+
+  @Test
+  @DisplayName("Department sizes should follow the configured Zipf skew")
+  void testDepartmentSkew() {
+    // Given
+    List<Employee> employees = EmployeeGenerator.withSeed(7).withDepartments(20, 1.0).generate(100_000);
+
+    // When
+    Map<String, Long> counts = new EmployeeStreams().groupAndCountByDepartment(employees);
+
+    // Then - rank 1 is about twice rank 2 and ten times rank 10
+    assertEquals(20, counts.size());
+    double ratio = (double) counts.get("Engineering") / counts.get("Sales");
+    assertEquals(2.0, ratio, 0.2);
+    assertTrue(counts.get("Engineering") > 8 * counts.get("Department-19"));
+  }
+
+  @Test
+  @DisplayName("Salaries and skills should respect the configured bounds")
+  void testSalaryAndSkillBounds() {
+    // Given
+    EmployeeGenerator generator = EmployeeGenerator.withSeed(1)
+                                                   .withSalaries(SalaryDistribution.uniform(30_000, 90_000))
+                                                   .withSkills(2, 5, 50);
+
+    // Then
+    generator.stream(10_000).forEach(employee -> {
+      assertTrue(employee.salary() >= 30_000 && employee.salary() <= 90_000);
+      assertTrue(employee.skills().size() >= 2 && employee.skills().size() <= 5);
+      assertEquals(employee.skills().size(), employee.skills().stream().distinct().count(), "Skills should be unique");
+    });
+  }
+
+  @Test
+  @DisplayName("Should draw every skill of the vocabulary under a very high skew")
+  void testSkillsUnderHighSkew() {
+    // Given - a skew where the rare skills do not even register in the cumulative weights
+    EmployeeGenerator generator = EmployeeGenerator.withSeed(1)
+                                                   .withDepartments(12, 10.0)
+                                                   .withSkills(40, 40, 200, 10.0);
+
+    // When
+    Employee employee = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> generator.employeeAt(0));
+
+    // Then
+    assertEquals(40, employee.skills().size());
+    assertEquals(40, employee.skills().stream().distinct().count(), "Skills should be unique");
+    assertTrue(employee.skills().contains("Java"), "The most popular skill should be drawn");
+  }
+
+  @Test
+  @DisplayName("Load runner should report every query")
+  void testLoadRunnerReportsEveryQuery() {
+    // Given
+    EmployeeLoadRunner runner = new EmployeeLoadRunner(new EmployeeStreams(), 1, 3);
+
+    // When
+    List<EmployeeLoadRunner.QueryReport> reports = runner.run(EmployeeGenerator.withSeed(3).generate(2_000));
+
+    // Then
+    assertEquals(runner.queries().size(), reports.size());
+    reports.forEach(report -> {
+      assertEquals(3, report.iterations());
+      assertTrue(report.opsPerSecond() > 0);
+      assertTrue(report.p50Nanos() <= report.p90Nanos() && report.p90Nanos() <= report.p99Nanos());
+    });
+  }
+}
@@ -0,0 +1,110 @@
+package com.example.streams.employee;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeIndexTest {
+
+  private final List<Employee> employees = List.of(
+          new Employee("Alice", "Engineering", 95000, List.of("Java", "Kotlin")),
+          new Employee("Bob", "Engineering", 85000, List.of("Java")),
+          new Employee("Anna", "Sales", 50000, List.of("Negotiation")),
+          new Employee("Carol", "Sales", 60000, List.of("Java", "Negotiation")),
+          new Employee("Albert", "Marketing", 70000),
+          new Employee("Dave", "Engineering", 120000, List.of("Go")));
+
+  private final EmployeeIndex index = EmployeeIndex.of(employees);
+
+  @Test
+  @DisplayName("Should combine filters and keep the list order")
+  void testExecute() {
+    // Given
+    EmployeeQuery query = EmployeeQuery.all()
+                                       .withSalaryBetween(50000, 95000)
+                                       .withSkills("Java");
+
+    // When
+    List<Employee> result = index.execute(query);
+
+    // Then
+    assertEquals(List.of(employees.get(0), employees.get(1), employees.get(3)), result);
+    assertEquals(new EmployeeStreams().findEmployees(employees, query), result);
+  }
+
+  @Test
+  @DisplayName("Should read the most selective index and check the other filters")
+  void testPlanPicksMostSelectiveIndex() {
+    // When
+    QueryPlan plan = index.explain(EmployeeQuery.all()
+                                                .withDepartment("Engineering")
+                                                .withNamePrefix("Al")
+                                                .withSkills("Kotlin"));
+
+    // Then - one Kotlin developer, two "Al" names, three engineers
+    assertEquals(QueryPlan.Access.SKILL_INDEX, plan.access());
+    assertEquals(1, plan.candidates());
+    assertEquals(List.of("department = Engineering", "name starts with 'Al'"), plan.filters());
+    assertEquals("SKILL_INDEX [skill = Kotlin] reads 1 of 6 rows, "
+                 + "filter department = Engineering and name starts with 'Al'", plan.toString());
+  }
+
+  @Test
+  @DisplayName("Should scan when no index is selective enough")
+  void testPlanFallsBackToScan() {
+    QueryPlan plan = index.explain(EmployeeQuery.all().withSalaryBetween(0, 100000));
+
+    assertEquals(QueryPlan.Access.SCAN, plan.access());
+    assertEquals(6, plan.candidates());
+    assertEquals(List.of(employees.get(0), employees.get(1), employees.get(2), employees.get(3), employees.get(4)),
+                 index.execute(EmployeeQuery.all().withSalaryBetween(0, 100000)));
+  }
+
+  @Test
+  @DisplayName("Should not read anything for an unknown department or skill")
+  void testEmptyPlan() {
+    EmployeeQuery unknownDepartment = EmployeeQuery.all().withDepartment("Legal").withSalaryBetween(0, 100);
+    EmployeeQuery unknownSkill = EmployeeQuery.all().withSkills("Java", "COBOL-" + System.nanoTime());
+
+    assertEquals(QueryPlan.Access.EMPTY, index.explain(unknownDepartment).access());
+    assertEquals(QueryPlan.Access.EMPTY, index.explain(unknownSkill).access());
+    assertEquals(List.of(), index.execute(unknownDepartment));
+    assertEquals(List.of(), index.execute(unknownSkill));
+  }
+
+  @Test
+  @DisplayName("Should return the same employees as a filtered stream for random queries")
+  void testAgainstStreamFilter() {
+    // Given
+    List<Employee> generated = EmployeeGenerator.withSeed(11).generate(20_000);
+    EmployeeIndex generatedIndex = EmployeeIndex.of(generated);
+    Random random = new Random(11);
+
+    for (int i = 0; i < 500; i++) {
+      // When
+      EmployeeQuery query = EmployeeQuery.all();
+      if (random.nextBoolean()) {
+        int min = 20_000 + random.nextInt(100_000);
+        query = query.withSalaryBetween(min, min + random.nextInt(60_000));
+      }
+      if (random.nextInt(3) == 0) {
+        query = query.withDepartment(generated.get(random.nextInt(generated.size())).department());
+      }
+      if (random.nextInt(3) == 0) {
+        List<String> skills = generated.get(random.nextInt(generated.size())).skills();
+        query = skills.isEmpty() ? query : query.withSkills(skills.get(0));
+      }
+      if (random.nextInt(3) == 0) {
+        query = query.withNamePrefix(generated.get(random.nextInt(generated.size())).name().substring(0, 2));
+      }
+
+      // Then
+      assertEquals(generated.stream().filter(query).toList(), generatedIndex.execute(query),
+                   generatedIndex.explain(query).toString());
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.streams.employee;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Every EmployeeStreams query against one million generated employees.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class EmployeeLoadBenchmark {
+
+  @Test
+  @DisplayName("Benchmark EmployeeStreams queries on 1M employees")
+  void benchmarkEmployeeStreams() {
+    List<Employee> employees = EmployeeGenerator.withSeed(2025).generate(1_000_000);
+
+    EmployeeLoadRunner runner = new EmployeeLoadRunner(new EmployeeStreams(), 5, 20);
+
+    EmployeeLoadRunner.print(runner.run(employees), System.out);
+  }
+}
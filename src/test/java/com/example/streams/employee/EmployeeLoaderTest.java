@@ -0,0 +1,137 @@
+package com.example.streams.employee;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeLoaderTest {
+
+  @TempDir
+  Path directory;
+
+  private Path writeCsv(List<Employee> employees) throws IOException {
+    StringBuilder csv = new StringBuilder("name,department,salary,skills\n");
+    for (Employee employee : employees) {
+      csv.append(employee.name()).append(',').append(employee.department()).append(',')
+         .append(employee.salary()).append(',').append(String.join(";", employee.skills())).append('\n');
+    }
+    return Files.writeString(directory.resolve("employees.csv"), csv);
+  }
+
+  @Test
+  @DisplayName("Should parse CSV records, skipping the header and blank lines")
+  void testCsv() throws IOException {
+    // Given
+    Path file = Files.writeString(directory.resolve("employees.csv"), """
+        name,department,salary,skills
+        Alice, Engineering ,95000,Java;Kotlin\r
+        Bob,Engineering,85000,Java
+
+        Carol,Sales,50000,
+        Dan,Sales,40000""");
+
+    // When
+    List<Employee> employees = EmployeeLoader.forFile(file).load(file);
+
+    // Then
+    assertEquals(List.of(new Employee("Alice", "Engineering", 95000, List.of("Java", "Kotlin")),
+                         new Employee("Bob", "Engineering", 85000, List.of("Java")),
+                         new Employee("Carol", "Sales", 50000),
+                         new Employee("Dan", "Sales", 40000)),
+                 employees);
+  }
+
+  @Test
+  @DisplayName("Should parse NDJSON records, ignoring unknown keys")
+  void testNdjson() throws IOException {
+    // Given
+    Path file = Files.writeString(directory.resolve("employees.ndjson"), """
+        {"name": "Al\\"ice\\u00e9", "department": "Engineering", "salary": 95000, "skills": ["Java", "Kotlin"]}
+        { "salary": 50000, "id": [1, 2], "department": "Sales", "name": "Bob", "skills": [], "active": true }
+        """);
+
+    // When
+    List<Employee> employees = EmployeeLoader.forFile(file).load(file);
+
+    // Then
+    assertEquals(List.of(new Employee("Al\"iceé", "Engineering", 95000, List.of("Java", "Kotlin")),
+                         new Employee("Bob", "Sales", 50000)),
+                 employees);
+  }
+
+  @Test
+  @DisplayName("Should keep file order across many small chunks")
+  void testChunkBoundaries() throws IOException {
+    // Given
+    List<Employee> generated = EmployeeGenerator.withSeed(3).generate(20_000);
+    Path file = writeCsv(generated);
+
+    // When - chunks much smaller than the file, boundaries inside records
+    List<Employee> loaded = new EmployeeLoader(EmployeeLoader.Format.CSV, 1_000).load(file);
+
+    // Then
+    assertEquals(generated, loaded);
+  }
+
+  @Test
+  @DisplayName("Should emit the same employees as a backpressured flux")
+  void testFlux() throws IOException {
+    // Given
+    List<Employee> generated = EmployeeGenerator.withSeed(5).generate(5_000);
+    Path file = writeCsv(generated);
+    EmployeeLoader loader = new EmployeeLoader(EmployeeLoader.Format.CSV, 4_096);
+
+    // Then
+    StepVerifier.create(loader.flux(file, 2), 10)
+                .expectNextSequence(generated.subList(0, 10))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextSequence(generated.subList(10, generated.size()))
+                .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should report malformed records with their byte offset")
+  void testMalformed() throws IOException {
+    Path csv = Files.writeString(directory.resolve("bad.csv"), "Alice,Engineering,95000\nBob,Sales,lots\n");
+    Path json = Files.writeString(directory.resolve("bad.ndjson"), "{\"name\": \"Bob\", \"salary\": 1}\n");
+
+    IllegalArgumentException csvError =
+        assertThrows(IllegalArgumentException.class, () -> EmployeeLoader.forFile(csv).load(csv));
+    IllegalArgumentException jsonError =
+        assertThrows(IllegalArgumentException.class, () -> EmployeeLoader.forFile(json).load(json));
+
+    assertTrue(csvError.getMessage().contains("at byte 34"), csvError.getMessage());
+    assertTrue(jsonError.getMessage().contains("required"), jsonError.getMessage());
+  }
+
+  @Test
+  @DisplayName("Should report invalid unicode escapes with their byte offset")
+  void testInvalidUnicodeEscape() throws IOException {
+    for (String escape : List.of("\\uZZZZ", "\\u-123", "\\u+0e9")) {
+      Path json = Files.writeString(directory.resolve("escape.ndjson"),
+                                    "{\"name\": \"Bob" + escape + "\", \"department\": \"Sales\", \"salary\": 1}\n");
+
+      IllegalArgumentException error =
+          assertThrows(IllegalArgumentException.class, () -> EmployeeLoader.forFile(json).load(json), escape);
+
+      assertTrue(error.getMessage().contains("at byte 15"), error.getMessage());
+      assertTrue(error.getMessage().contains("invalid unicode escape"), error.getMessage());
+    }
+  }
+
+  @Test
+  @DisplayName("Should load an empty file as no employees")
+  void testEmptyFile() throws IOException {
+    Path file = Files.createFile(directory.resolve("empty.csv"));
+
+    assertEquals(List.of(), EmployeeLoader.forFile(file).load(file));
+  }
+}
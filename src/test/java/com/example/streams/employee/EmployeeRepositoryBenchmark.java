@@ -0,0 +1,141 @@
+package com.example.streams.employee;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Department aggregates read while other threads update employees, at 1, 8 and 32 threads:
+ * the lock-free EmployeeRepository versus recomputing from a list copied under a lock.
+ * Every thread does 9 reads for 1 write. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class EmployeeRepositoryBenchmark {
+
+  private static final int EMPLOYEES = 100_000;
+  private static final int[] THREADS = {1, 8, 32};
+  private static final long WARMUP_MILLIS = 1_000;
+  private static final long MEASURE_MILLIS = 3_000;
+
+  private final List<Employee> employees = EmployeeGenerator.withSeed(47).generate(EMPLOYEES);
+  private final List<String> departments = employees.stream().map(Employee::department).distinct().toList();
+
+  @Test
+  @DisplayName("Benchmark concurrent aggregate reads and writes: persistent snapshots vs copy under lock")
+  void benchmarkContention() throws InterruptedException {
+    for (int threads : THREADS) {
+      report("persistent", threads, run(threads, new RepositoryTarget(employees)));
+      report("copy under lock", threads, run(threads, new LockedListTarget(employees)));
+    }
+  }
+
+  private long[] run(int threads, Target target) throws InterruptedException {
+    run(threads, target, WARMUP_MILLIS);
+    return run(threads, target, MEASURE_MILLIS);
+  }
+
+  private long[] run(int threads, Target target, long millis) throws InterruptedException {
+    LongAdder reads = new LongAdder();
+    LongAdder writes = new LongAdder();
+    AtomicBoolean running = new AtomicBoolean(true);
+    CountDownLatch done = new CountDownLatch(threads);
+    for (int t = 0; t < threads; t++) {
+      Thread.ofPlatform().start(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long checksum = 0;
+        while (running.get()) {
+          if (random.nextInt(10) == 0) {
+            target.move(random.nextInt(employees.size()), departments.get(random.nextInt(departments.size())));
+            writes.increment();
+          } else {
+            checksum += target.departmentCounts().size();
+            reads.increment();
+          }
+        }
+        assertTrue(checksum >= 0);
+        done.countDown();
+      });
+    }
+    Thread.sleep(millis);
+    running.set(false);
+    assertTrue(done.await(1, TimeUnit.MINUTES), "All threads should stop");
+    return new long[]{reads.sum() * 1000 / millis, writes.sum() * 1000 / millis};
+  }
+
+  private static void report(String name, int threads, long[] perSecond) {
+    System.out.printf("%-16s threads=%2d  reads/s=%,12d  writes/s=%,10d%n", name, threads, perSecond[0], perSecond[1]);
+  }
+
+  private interface Target {
+    Map<String, Long> departmentCounts();
+
+    void move(int index, String department);
+  }
+
+  private static final class RepositoryTarget implements Target {
+    private final EmployeeRepository repository;
+    // the current value of each employee, to name the one to replace
+    private final AtomicReferenceArray<Employee> employees;
+
+    private RepositoryTarget(List<Employee> employees) {
+      this.repository = new EmployeeRepository(employees);
+      this.employees = new AtomicReferenceArray<>(employees.toArray(Employee[]::new));
+      assertEquals(EMPLOYEES, repository.size());
+    }
+
+    @Override
+    public Map<String, Long> departmentCounts() {
+      return repository.departmentCounts();
+    }
+
+    @Override
+    public void move(int index, String department) {
+      Employee employee = employees.get(index);
+      Employee moved = new Employee(employee.name(), department, employee.salary(), employee.skills());
+      // a thread that lost the slot to another writer skips this write
+      if (employees.compareAndSet(index, employee, moved)) {
+        repository.replace(employee, moved);
+      }
+    }
+  }
+
+  // what callers did before EmployeeRepository: copy the list, then aggregate the copy
+  private static final class LockedListTarget implements Target {
+    private final List<Employee> employees;
+    private final EmployeeStreams employeeStreams = new EmployeeStreams();
+
+    private LockedListTarget(List<Employee> employees) {
+      this.employees = new ArrayList<>(employees);
+    }
+
+    @Override
+    public Map<String, Long> departmentCounts() {
+      List<Employee> copy;
+      synchronized (employees) {
+        copy = new ArrayList<>(employees);
+      }
+      return employeeStreams.groupAndCountByDepartment(copy);
+    }
+
+    @Override
+    public void move(int index, String department) {
+      synchronized (employees) {
+        Employee employee = employees.get(index);
+        employees.set(index, new Employee(employee.name(), department, employee.salary(), employee.skills()));
+      }
+    }
+  }
+}
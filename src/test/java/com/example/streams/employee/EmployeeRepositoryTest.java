@@ -0,0 +1,151 @@
+package com.example.streams.employee;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeRepositoryTest {
+
+  private final EmployeeStreams employeeStreams = new EmployeeStreams();
+
+  @Test
+  @DisplayName("Views should follow inserts, updates and deletes")
+  void testViews() {
+    // Given
+    Employee alice = new Employee("Alice", "Engineering", 90000, List.of("Java", "Kotlin"));
+    Employee bob = new Employee("Bob", "Engineering", 80000, List.of("Java"));
+    EmployeeRepository repository = new EmployeeRepository(List.of(
+            alice, bob, new Employee("Carol", "Sales", 50000, List.of("Negotiation"))));
+
+    // When - Bob moves to Sales with a raise, Alice leaves
+    boolean replaced = repository.replace(bob, new Employee("Bob", "Sales", 85000, List.of("Java", "Excel")));
+    boolean removed = repository.remove(alice);
+
+    // Then
+    assertTrue(replaced);
+    assertTrue(removed);
+    assertFalse(repository.remove(alice));
+    assertFalse(repository.replace(bob, alice));
+    assertEquals(2, repository.size());
+    assertEquals(Map.of("Sales", 2L), repository.departmentCounts());
+    assertEquals(Map.of("Sales", 67500.0), repository.averageSalaryByDepartment());
+    assertEquals(Set.of("Java", "Excel", "Negotiation"), repository.uniqueSkills());
+    assertEquals(List.of(85000, 50000), repository.topSalaries(5));
+  }
+
+  @Test
+  @DisplayName("Should keep employees sharing a name, and equal employees, each time")
+  void testRepeatedEmployees() {
+    // Given - generated names repeat
+    List<Employee> employees = new ArrayList<>(EmployeeGenerator.withSeed(5).generate(1_000));
+    employees.add(employees.get(0));
+
+    // When
+    EmployeeRepository repository = new EmployeeRepository(employees);
+
+    // Then
+    assertEquals(employees.size(), repository.size());
+    assertEquals(2, repository.count(employees.get(0)));
+    assertEquals(employeeStreams.groupAndCountByDepartment(employees), repository.departmentCounts());
+    assertTrue(repository.remove(employees.get(0)));
+    assertEquals(1, repository.count(employees.get(0)));
+  }
+
+  @Test
+  @DisplayName("Views should match a recomputation after many random changes")
+  void testMatchesRecomputation() {
+    // Given
+    List<Employee> pool = EmployeeGenerator.withSeed(21).generate(2_000);
+    EmployeeRepository repository = new EmployeeRepository();
+    List<Employee> expected = new ArrayList<>();
+    Random random = new Random(21);
+
+    // When
+    for (int i = 0; i < 20_000; i++) {
+      Employee employee = pool.get(random.nextInt(pool.size()));
+      Employee changed = new Employee(employee.name(), pool.get(random.nextInt(pool.size())).department(),
+                                      employee.salary() + random.nextInt(10), employee.skills());
+      int action = random.nextInt(4);
+      if (action == 0 && !expected.isEmpty()) {
+        Employee removed = expected.remove(random.nextInt(expected.size()));
+        assertTrue(repository.remove(removed));
+      } else if (action == 1 && !expected.isEmpty()) {
+        int index = random.nextInt(expected.size());
+        assertTrue(repository.replace(expected.get(index), changed));
+        expected.set(index, changed);
+      } else {
+        repository.add(changed);
+        expected.add(changed);
+      }
+    }
+
+    // Then
+    EmployeeRepository.Snapshot snapshot = repository.snapshot();
+    assertEquals(expected.size(), snapshot.size());
+    assertEquals(employeeStreams.groupAndCountByDepartment(expected), snapshot.departmentCounts());
+    assertEquals(employeeStreams.extractUniqueSkills(expected), snapshot.uniqueSkills());
+    assertEquals(employeeStreams.findTopNSalaries(expected, 10), snapshot.topSalaries(10));
+    Map<String, Double> averages = employeeStreams.calculateAverageSalaryByDepartment(expected);
+    snapshot.averageSalaryByDepartment()
+            .forEach((department, average) -> assertEquals(averages.get(department), average, 1e-6));
+  }
+
+  @Test
+  @DisplayName("Snapshots should be consistent while writers move employees around")
+  void testConsistentSnapshotsUnderConcurrentWrites() throws Exception {
+    // Given
+    List<Employee> employees = EmployeeGenerator.withSeed(5).generate(1_000);
+    EmployeeRepository repository = new EmployeeRepository(employees);
+    AtomicReferenceArray<Employee> current = new AtomicReferenceArray<>(employees.toArray(Employee[]::new));
+    int writerCount = 2;
+    AtomicBoolean running = new AtomicBoolean(true);
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    try {
+      // When - writers only move employees between departments, never add or remove
+      List<Future<?>> writers = new ArrayList<>();
+      for (int w = 0; w < writerCount; w++) {
+        int writer = w;
+        writers.add(executor.submit(() -> {
+          Random random = new Random(writer);
+          while (running.get()) {
+            // each writer owns every writerCount-th employee, so it always knows their current value
+            int index = random.nextInt(employees.size() / writerCount) * writerCount + writer;
+            Employee employee = current.get(index);
+            Employee moved = new Employee(employee.name(), employees.get(random.nextInt(employees.size())).department(),
+                                          employee.salary(), employee.skills());
+            assertTrue(repository.replace(employee, moved));
+            current.set(index, moved);
+          }
+        }));
+      }
+
+      // Then - every snapshot still accounts for every employee exactly once
+      for (int i = 0; i < 2_000; i++) {
+        EmployeeRepository.Snapshot snapshot = repository.snapshot();
+        assertEquals(employees.size(), snapshot.departmentCounts().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(employees.size(), snapshot.salaryCounts().values().stream().mapToInt(Integer::intValue).sum());
+      }
+      running.set(false);
+      for (Future<?> writer : writers) {
+        writer.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      running.set(false);
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.example.streams.employee;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryBandsTest {
+
+  private EmployeeStreams employeeStreams;
+
+  @BeforeEach
+  void setUp() {
+    employeeStreams = new EmployeeStreams();
+  }
+
+  @Test
+  @DisplayName("Should place employees in bands, keeping input order")
+  void testBandBySalary() {
+    // Given
+    List<Employee> employees = Arrays.asList(
+            new Employee("Alice", "Engineering", 75000),
+            new Employee("Bob", "Engineering", 95000),
+            new Employee("Charlie", "Sales", 60000),
+            new Employee("Diana", "Sales", 85000),
+            new Employee("Eve", "HR", 50000)
+    );
+
+    // When - thresholds out of order on purpose
+    SalaryBands bands = employeeStreams.bandBySalary(employees, 80000, 60000);
+
+    // Then
+    assertEquals(3, bands.bandCount());
+    assertArrayEquals(new int[]{60000, 80000}, bands.thresholds());
+    assertEquals(List.of("Charlie", "Eve"), names(bands.band(0)), "<= 60000, threshold included");
+    assertEquals(List.of("Alice"), names(bands.band(1)));
+    assertEquals(List.of("Bob", "Diana"), names(bands.band(2)));
+    assertThrows(UnsupportedOperationException.class, () -> bands.band(0).add(employees.get(0)));
+  }
+
+  @Test
+  @DisplayName("A single threshold should split like partitionBySalaryThreshold")
+  void testMatchesPartition() {
+    // Given
+    List<Employee> employees = EmployeeGenerator.withSeed(5).generate(5_000);
+
+    // When
+    Map<Boolean, List<Employee>> partitioned = employeeStreams.partitionBySalaryThreshold(employees, 60_000);
+    SalaryBands bands = employeeStreams.bandBySalary(employees, 60_000);
+
+    // Then
+    assertEquals(partitioned.get(false), bands.band(0));
+    assertEquals(partitioned.get(true), bands.band(1));
+  }
+
+  @Test
+  @DisplayName("Parallel banding should match sequential banding")
+  void testParallelMatchesSequential() {
+    List<Employee> employees = EmployeeGenerator.withSeed(9).generate(20_000);
+    int[] thresholds = IntStream.rangeClosed(1, 10).map(i -> i * 15_000).toArray();
+
+    SalaryBands sequential = employeeStreams.bandBySalary(employees, thresholds);
+    SalaryBands parallel = employeeStreams.bandBySalaryInParallel(employees, thresholds);
+
+    assertEquals(11, parallel.bandCount());
+    assertEquals(sequential.bands(), parallel.bands());
+    assertEquals(employees.size(), parallel.bands().stream().mapToInt(List::size).sum());
+  }
+
+  @Test
+  @DisplayName("Should accept lists without random access")
+  void testLinkedList() {
+    List<Employee> employees = new LinkedList<>(List.of(new Employee("Alice", "HR", 10), new Employee("Bob", "HR", 20)));
+
+    SalaryBands bands = employeeStreams.bandBySalary(employees, 15);
+
+    assertEquals(List.of("Alice"), names(bands.band(0)));
+    assertEquals(0, bands.bandOf(15));
+    assertEquals(1, bands.bandOf(16));
+  }
+
+  private static List<String> names(List<Employee> employees) {
+    return employees.stream().map(Employee::name).toList();
+  }
+}
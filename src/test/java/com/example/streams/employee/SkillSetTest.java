@@ -0,0 +1,80 @@
+package com.example.streams.employee;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillSetTest {
+
+  @Test
+  @DisplayName("Should keep first-seen order and drop duplicates")
+  void testListView() {
+    // When
+    SkillSet skills = SkillSet.of(Arrays.asList("Java", "AWS", "Java", "Python"));
+
+    // Then
+    assertEquals(List.of("Java", "AWS", "Python"), skills);
+    assertEquals(3, skills.size());
+    assertTrue(skills.contains("AWS"));
+    assertFalse(skills.contains("Cobol"));
+  }
+
+  @Test
+  @DisplayName("Employees should share interned skill strings")
+  void testSkillsAreInterned() {
+    // Given - two distinct String instances with the same content
+    String java1 = new String("Java");
+    String java2 = new String("Java");
+
+    // When
+    Employee alice = new Employee("Alice", "Engineering", 75000, List.of(java1));
+    Employee bob = new Employee("Bob", "Engineering", 80000, List.of(java2));
+
+    // Then
+    assertSame(alice.skills().get(0), bob.skills().get(0));
+    assertEquals(SkillDictionary.global().idOf("Java"), SkillDictionary.global().idOf(java2));
+  }
+
+  @Test
+  @DisplayName("Employee skills should be immutable and default to empty")
+  void testImmutable() {
+    // Given
+    List<String> source = new ArrayList<>(List.of("Docker"));
+    Employee employee = new Employee("Alice", "Engineering", 75000, source);
+
+    // When
+    source.add("Kubernetes");
+
+    // Then
+    assertEquals(List.of("Docker"), employee.skills(), "Later changes to the source list should not leak in");
+    assertThrows(UnsupportedOperationException.class, () -> employee.skills().add("Go"));
+    assertTrue(new Employee("Bob", "Sales", 60000).skills().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Skill sets should equal any list with the same skills")
+  void testEquality() {
+    SkillSet skills = SkillSet.of(List.of("Java", "Go"));
+
+    assertEquals(List.of("Java", "Go"), skills);
+    assertEquals(skills, List.of("Java", "Go"));
+    assertEquals(List.of("Java", "Go").hashCode(), skills.hashCode());
+    assertEquals(skills, SkillSet.of(List.of("Java", "Go")));
+    assertNotEquals(skills, SkillSet.of(List.of("Go", "Java")));
+    assertEquals(new Employee("A", "B", 1, List.of("Java")), new Employee("A", "B", 1, List.of("Java")));
+  }
+
+  @Test
+  @DisplayName("Looking up an unknown skill should not register it")
+  void testContainsDoesNotRegister() {
+    int size = SkillDictionary.global().size();
+
+    assertFalse(SkillSet.EMPTY.contains("Some skill nobody has " + System.nanoTime()));
+    assertEquals(size, SkillDictionary.global().size());
+  }
+}
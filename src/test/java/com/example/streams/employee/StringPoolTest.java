@@ -0,0 +1,56 @@
+package com.example.streams.employee;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringPoolTest {
+
+  @Test
+  @DisplayName("Should return one canonical instance per value")
+  void testIntern() {
+    // Given
+    StringPool pool = new StringPool();
+    String first = new String("Engineering");
+    String second = new String("Engineering");
+
+    // Then
+    assertSame(first, pool.intern(first));
+    assertSame(first, pool.intern(second));
+    assertNull(pool.intern(null));
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  @DisplayName("Employees should canonicalize departments, and names on request")
+  void testEmployeeInterning() {
+    Employee alice = new Employee(new String("Alice"), new String("Sales"), 1);
+    Employee bob = new Employee(new String("Alice"), new String("Sales"), 2);
+    Employee carol = Employee.interned(new String("Carol"), "Sales", 3, List.of());
+    Employee otherCarol = Employee.interned(new String("Carol"), "Sales", 4, List.of());
+
+    assertSame(alice.department(), bob.department());
+    assertNotSame(alice.name(), bob.name(), "Names are only pooled through Employee.interned");
+    assertSame(carol.name(), otherCarol.name());
+  }
+
+  @Test
+  @DisplayName("Identity grouping should merge equal departments built from different strings")
+  void testGroupingWithDistinctStringInstances() {
+    // Given
+    List<Employee> employees = List.of(
+            new Employee("Alice", new String("Engineering"), 70000),
+            new Employee("Bob", new String("Engineering"), 90000),
+            new Employee("Eve", "HR", 55000));
+    EmployeeStreams employeeStreams = new EmployeeStreams();
+
+    // Then
+    assertEquals(Map.of("Engineering", 2L, "HR", 1L), employeeStreams.groupAndCountByDepartment(employees));
+    assertEquals(Map.of("Engineering", 80000.0, "HR", 55000.0), employeeStreams.calculateAverageSalaryByDepartment(employees));
+    assertEquals(Map.of("Engineering", "Alice|Bob", "HR", "Eve"), employeeStreams.joinNamesByDepartment(employees, "|"));
+  }
+}